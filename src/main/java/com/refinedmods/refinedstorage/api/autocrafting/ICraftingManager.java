@@ -109,8 +109,15 @@ public interface ICraftingManager {
      */
     List<ICraftingPattern> getPatterns();
 
+    /**
+     * @return true if any active container in this network is still loading its patterns, false otherwise
+     */
+    boolean isLoadingPatterns();
+
     /**
      * Rebuilds the pattern list.
+     * Only the patterns of containers that changed are added to or removed from the craftables,
+     * listeners receive deltas instead of a full update.
      */
     void invalidate();
 
@@ -159,7 +166,8 @@ public interface ICraftingManager {
     void removeListener(ICraftingMonitorListener listener);
 
     /**
-     * Calls all {@link ICraftingMonitorListener}s.
+     * Marks the tasks as changed.
+     * The {@link ICraftingMonitorListener}s are called on a later tick, at most once every few ticks.
      */
     void onTaskChanged();
 
@@ -73,6 +73,15 @@ public interface ICraftingPatternContainer {
      */
     List<ICraftingPattern> getPatterns();
 
+    /**
+     * While this returns true, {@link #getPatterns()} might not contain all the patterns in this container yet.
+     *
+     * @return true if the patterns of this container are still loading, false otherwise
+     */
+    default boolean isLoadingPatterns() {
+        return false;
+    }
+
     /**
      * @return the pattern inventory, or null if no pattern inventory is present
      */
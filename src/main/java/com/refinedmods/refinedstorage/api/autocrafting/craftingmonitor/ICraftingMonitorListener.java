@@ -13,6 +13,7 @@ public interface ICraftingMonitorListener {
 
     /**
      * Called when any task changes.
+     * Changes are coalesced, so this isn't called for every single change.
      */
     void onChanged();
 }
@@ -23,5 +23,9 @@ public enum CalculationResultType {
     /**
      * When one of the used patterns during the calculation reuses itself again and would cause an infinite loop.
      */
-    RECURSIVE;
+    RECURSIVE,
+    /**
+     * There is no pattern for the requested stack (yet), as the patterns of the network are still loading.
+     */
+    PATTERNS_LOADING;
 }
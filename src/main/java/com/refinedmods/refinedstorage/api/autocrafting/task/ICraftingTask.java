@@ -70,6 +70,26 @@ public interface ICraftingTask {
      */
     List<ICraftingMonitorElement> getCraftingMonitorElements();
 
+    /**
+     * Tasks that don't track a state version are always resent to the crafting monitor and saved again.
+     *
+     * @return true if this task tracks a state version, false otherwise
+     */
+    default boolean hasStateVersion() {
+        return false;
+    }
+
+    /**
+     * The state version changes whenever something that is shown in the crafting monitor changes,
+     * so that the crafting monitor only has to resend tasks that have changed.
+     * Only used when {@link #hasStateVersion()} returns true.
+     *
+     * @return the state version
+     */
+    default int getStateVersion() {
+        return 0;
+    }
+
     /**
      * @return the crafting pattern corresponding to this task
      */
@@ -20,6 +20,7 @@ public interface IStorage<T> {
      * Empty stacks are allowed.
      * Please do not copy the stacks for performance reasons.
      * For the caller: modifying stacks is not allowed!
+     * This includes their NBT tags, which can be shared with stacks in other storages.
      *
      * @return stacks stored in this storage, empty stacks are allowed
      */
@@ -5,6 +5,7 @@ import com.refinedmods.refinedstorage.api.storage.IStorage;
 import com.refinedmods.refinedstorage.api.storage.IStorageProvider;
 import com.refinedmods.refinedstorage.api.util.Action;
 import com.refinedmods.refinedstorage.api.util.IStackList;
+import com.refinedmods.refinedstorage.api.util.StackListResult;
 
 import javax.annotation.Nonnull;
 import java.util.List;
@@ -72,6 +73,16 @@ public interface IStorageCache<T> {
      */
     void removeListener(IStorageCacheListener<T> listener);
 
+    /**
+     * Notifies storage cache listeners about changes to the craftables list.
+     * Pass a delta for every change, also for changes to the amount of an entry that stays in the craftables list.
+     * Does nothing by default, for caches that don't track craftables.
+     *
+     * @param deltas the craftables deltas
+     */
+    default void flushCraftables(List<StackListResult<T>> deltas) {
+    }
+
     /**
      * Re-attaches all listeners.
      * In practice this means that all listeners will get a {@link IStorageCacheListener#onAttached()} call.
@@ -33,4 +33,13 @@ public interface IStorageCacheListener<T> {
      * @param deltas a list of deltas
      */
     void onChangedBulk(List<StackListResult<T>> deltas);
+
+    /**
+     * Called when the craftables list of the storage cache changes.
+     * Does nothing by default.
+     *
+     * @param deltas a list of deltas, one for every change to the craftables list
+     */
+    default void onCraftablesChanged(List<StackListResult<T>> deltas) {
+    }
 }
@@ -7,6 +7,8 @@ import java.util.UUID;
 
 /**
  * A stack list.
+ * The stacks in the list are owned by it, and their NBT tags can be shared with stacks in other lists.
+ * Never modify a stack or its tag that is returned by a stack list, modify a copy instead.
  */
 public interface IStackList<T> {
     /**
@@ -113,6 +115,8 @@ public interface IStackList<T> {
     boolean isEmpty();
 
     /**
+     * The stacks and their tags must not be modified, see {@link IStackList}.
+     *
      * @return a collection of stacks in this list
      */
     @Nonnull
@@ -8,13 +8,19 @@ import com.refinedmods.refinedstorage.api.autocrafting.task.*;
 import com.refinedmods.refinedstorage.api.network.INetwork;
 import com.refinedmods.refinedstorage.api.network.INetworkNodeGraphEntry;
 import com.refinedmods.refinedstorage.api.util.IComparer;
+import com.refinedmods.refinedstorage.api.util.IStackList;
+import com.refinedmods.refinedstorage.api.util.StackListResult;
 import com.refinedmods.refinedstorage.apiimpl.API;
 import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.calculator.CalculationResult;
+import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.calculator.PatternPlanCache;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.items.IItemHandlerModifiable;
@@ -27,6 +33,7 @@ import java.util.*;
 
 public class CraftingManager implements ICraftingManager {
     private static final int THROTTLE_DELAY_MS = 3000;
+    private static final int LISTENER_UPDATE_INTERVAL = 5;
 
     private static final Logger LOGGER = LogManager.getLogger(CraftingManager.class);
 
@@ -38,17 +45,31 @@ public class CraftingManager implements ICraftingManager {
 
     private final Map<ITextComponent, List<IItemHandlerModifiable>> containerInventories = new LinkedHashMap<>();
     private final Map<ICraftingPattern, Set<ICraftingPatternContainer>> patternToContainer = new HashMap<>();
+    private final Map<ICraftingPatternContainer, List<ICraftingPattern>> containerPatterns = new HashMap<>();
 
     private final List<ICraftingPattern> patterns = new ArrayList<>();
+    private final Map<Item, List<ICraftingPattern>> patternsByItemOutput = new HashMap<>();
+    private final Map<Fluid, List<ICraftingPattern>> patternsByFluidOutput = new HashMap<>();
+
+    private final PatternPlanCache planCache = new PatternPlanCache(this);
 
     private final Map<UUID, ICraftingTask> tasks = new LinkedHashMap<>();
     private final List<ICraftingTask> tasksToAdd = new ArrayList<>();
     private final List<UUID> tasksToCancel = new ArrayList<>();
-    private ListNBT tasksToRead;
+    private final ListNBT tasksToRead = new ListNBT();
+    private boolean tasksRead;
+    private boolean tasksDirty;
+
+    // The last written tag and state version of every task, so that unchanged tasks don't have to be written again.
+    private final Map<UUID, CompoundNBT> writtenTasks = new HashMap<>();
+    private final Map<UUID, Integer> writtenTaskVersions = new HashMap<>();
 
     private final Map<Object, Long> throttledRequesters = new HashMap<>();
 
     private final Set<ICraftingMonitorListener> listeners = new HashSet<>();
+    private boolean tasksChanged;
+    private int ticks;
+    private int lastListenerUpdate = -LISTENER_UPDATE_INTERVAL;
 
     public CraftingManager(INetwork network) {
         this.network = network;
@@ -75,7 +96,7 @@ public class CraftingManager implements ICraftingManager {
         task.start();
         tasksToAdd.add(task);
 
-        network.markDirty();
+        tasksDirty = true;
     }
 
     @Override
@@ -86,14 +107,14 @@ public class CraftingManager implements ICraftingManager {
             tasksToCancel.add(id);
         }
 
-        network.markDirty();
+        tasksDirty = true;
     }
 
     @Override
     public ICalculationResult create(ItemStack stack, int quantity) {
         ICraftingPattern pattern = getPattern(stack);
         if (pattern == null) {
-            return new CalculationResult(CalculationResultType.NO_PATTERN);
+            return new CalculationResult(isLoadingPatterns() ? CalculationResultType.PATTERNS_LOADING : CalculationResultType.NO_PATTERN);
         }
 
         ICraftingTaskFactory factory = API.instance().getCraftingTaskRegistry().get(pattern.getCraftingTaskFactoryId());
@@ -108,7 +129,7 @@ public class CraftingManager implements ICraftingManager {
     public ICalculationResult create(FluidStack stack, int quantity) {
         ICraftingPattern pattern = getPattern(stack);
         if (pattern == null) {
-            return new CalculationResult(CalculationResultType.NO_PATTERN);
+            return new CalculationResult(isLoadingPatterns() ? CalculationResultType.PATTERNS_LOADING : CalculationResultType.NO_PATTERN);
         }
 
         ICraftingTaskFactory factory = API.instance().getCraftingTaskRegistry().get(pattern.getCraftingTaskFactoryId());
@@ -122,7 +143,8 @@ public class CraftingManager implements ICraftingManager {
     @Override
     public void update() {
         if (network.canRun()) {
-            if (tasksToRead != null) {
+            // Tasks refer to the patterns of the network, so they can only be read once those are there.
+            if (!tasksRead && !isLoadingPatterns()) {
                 readTasks();
             }
 
@@ -137,9 +159,25 @@ public class CraftingManager implements ICraftingManager {
                 onTaskChanged();
             }
 
-            if (!tasks.isEmpty()) {
-                network.markDirty();
+            if (tasksDirty) {
+                tasksDirty = false;
+
+                CraftingTaskStore.get((ServerWorld) network.getWorld()).markDirty();
             }
+
+            updateListeners();
+        }
+    }
+
+    // Tasks can change many times per tick, the listeners only get to know about it once every few ticks.
+    private void updateListeners() {
+        ++ticks;
+
+        if (tasksChanged && ticks - lastListenerUpdate >= LISTENER_UPDATE_INTERVAL) {
+            tasksChanged = false;
+            lastListenerUpdate = ticks;
+
+            listeners.forEach(ICraftingMonitorListener::onChanged);
         }
     }
 
@@ -178,6 +216,11 @@ public class CraftingManager implements ICraftingManager {
     }
 
     private void readTasks() {
+        ListNBT storedTasks = CraftingTaskStore.get((ServerWorld) network.getWorld()).takeTasks(network.getPosition());
+        if (storedTasks != null) {
+            tasksToRead.addAll(storedTasks);
+        }
+
         for (int i = 0; i < tasksToRead.size(); ++i) {
             CompoundNBT taskTag = tasksToRead.getCompound(i);
 
@@ -190,36 +233,63 @@ public class CraftingManager implements ICraftingManager {
                     ICraftingTask task = factory.createFromNbt(network, taskData);
 
                     tasks.put(task.getId(), task);
+
+                    writtenTasks.put(task.getId(), taskTag);
+                    writtenTaskVersions.put(task.getId(), task.getStateVersion());
                 } catch (CraftingTaskReadException e) {
                     LOGGER.error("Could not deserialize crafting task", e);
                 }
             }
         }
 
-        this.tasksToRead = null;
+        this.tasksToRead.clear();
+        this.tasksRead = true;
     }
 
     @Override
     public void readFromNbt(CompoundNBT tag) {
-        this.tasksToRead = tag.getList(NBT_TASKS, Constants.NBT.TAG_COMPOUND);
+        // Tasks used to be stored with the network, those are moved to the CraftingTaskStore on the next save.
+        if (tag.contains(NBT_TASKS)) {
+            this.tasksToRead.addAll(tag.getList(NBT_TASKS, Constants.NBT.TAG_COMPOUND));
+            this.tasksDirty = true;
+        }
     }
 
     @Override
     public CompoundNBT writeToNbt(CompoundNBT tag) {
+        // Tasks are written by the CraftingTaskStore.
+        return tag;
+    }
+
+    public ListNBT writeTasks() {
         ListNBT list = new ListNBT();
 
+        // Tasks that haven't been read yet are written back as they are.
+        list.addAll(tasksToRead);
+
+        writtenTasks.keySet().retainAll(tasks.keySet());
+        writtenTaskVersions.keySet().retainAll(tasks.keySet());
+
         for (ICraftingTask task : tasks.values()) {
-            CompoundNBT taskTag = new CompoundNBT();
+            CompoundNBT taskTag = writtenTasks.get(task.getId());
+
+            int version = task.getStateVersion();
+
+            Integer writtenVersion = writtenTaskVersions.get(task.getId());
+            if (!task.hasStateVersion() || taskTag == null || writtenVersion == null || writtenVersion != version) {
+                taskTag = new CompoundNBT();
 
-            taskTag.putString(NBT_TASK_TYPE, task.getPattern().getCraftingTaskFactoryId().toString());
-            taskTag.put(NBT_TASK_DATA, task.writeToNbt(new CompoundNBT()));
+                taskTag.putString(NBT_TASK_TYPE, task.getPattern().getCraftingTaskFactoryId().toString());
+                taskTag.put(NBT_TASK_DATA, task.writeToNbt(new CompoundNBT()));
+
+                writtenTasks.put(task.getId(), taskTag);
+                writtenTaskVersions.put(task.getId(), version);
+            }
 
             list.add(taskTag);
         }
 
-        tag.put(NBT_TASKS, list);
-
-        return tag;
+        return list;
     }
 
     @Override
@@ -236,7 +306,8 @@ public class CraftingManager implements ICraftingManager {
 
     @Override
     public void onTaskChanged() {
-        listeners.forEach(ICraftingMonitorListener::onChanged);
+        this.tasksChanged = true;
+        this.tasksDirty = true;
     }
 
     @Override
@@ -353,31 +424,52 @@ public class CraftingManager implements ICraftingManager {
         return patterns;
     }
 
+    @Override
+    public boolean isLoadingPatterns() {
+        for (ICraftingPatternContainer container : getContainers()) {
+            if (container.isLoadingPatterns()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     @Override
     public void invalidate() {
-        this.network.getItemStorageCache().getCraftablesList().clear();
-        this.network.getFluidStorageCache().getCraftablesList().clear();
+        List<ICraftingPattern> previousPatterns = new ArrayList<>(this.patterns);
 
         this.patterns.clear();
         this.containerInventories.clear();
-        this.patternToContainer.clear();
 
-        List<ICraftingPatternContainer> containers = getContainers();
+        // Identical patterns in different containers share the instance of the first container,
+        // so that the calculation and the tasks mostly compare patterns by reference.
+        Map<ICraftingPattern, ICraftingPattern> internedPatterns = new HashMap<>();
 
-        for (ICraftingPatternContainer container : containers) {
-            for (ICraftingPattern pattern : container.getPatterns()) {
-                this.patterns.add(pattern);
+        List<ICraftingPattern> added = new ArrayList<>();
+        List<ICraftingPattern> removed = new ArrayList<>();
 
-                for (ItemStack output : pattern.getOutputs()) {
-                    network.getItemStorageCache().getCraftablesList().add(output);
-                }
+        Set<ICraftingPatternContainer> disappearedContainers = new HashSet<>(containerPatterns.keySet());
+        boolean patternsChanged = false;
 
-                for (FluidStack output : pattern.getFluidOutputs()) {
-                    network.getFluidStorageCache().getCraftablesList().add(output);
-                }
+        for (ICraftingPatternContainer container : getContainers()) {
+            disappearedContainers.remove(container);
+
+            List<ICraftingPattern> newPatterns = new ArrayList<>(container.getPatterns());
+            List<ICraftingPattern> oldPatterns = containerPatterns.put(container, newPatterns);
+
+            if (oldPatterns == null) {
+                oldPatterns = Collections.emptyList();
+            }
+
+            if (!oldPatterns.equals(newPatterns)) {
+                patternsChanged = true;
 
-                Set<ICraftingPatternContainer> containersForPattern = this.patternToContainer.computeIfAbsent(pattern, key -> new LinkedHashSet<>());
-                containersForPattern.add(container);
+                onPatternsChanged(container, oldPatterns, newPatterns, added, removed);
+            }
+
+            for (ICraftingPattern pattern : newPatterns) {
+                this.patterns.add(internedPatterns.computeIfAbsent(pattern, key -> key));
             }
 
             IItemHandlerModifiable handler = container.getPatternInventory();
@@ -386,8 +478,140 @@ public class CraftingManager implements ICraftingManager {
             }
         }
 
-        this.network.getItemStorageCache().reAttachListeners();
-        this.network.getFluidStorageCache().reAttachListeners();
+        for (ICraftingPatternContainer container : disappearedContainers) {
+            patternsChanged = true;
+
+            onPatternsChanged(container, containerPatterns.remove(container), Collections.emptyList(), added, removed);
+        }
+
+        // Even a different order changes which pattern is picked for an output.
+        // Containers can also create new pattern instances that are equal to the old ones, the index has to refer to the current instances.
+        if (patternsChanged || !isSameInstances(previousPatterns, this.patterns)) {
+            indexPatternOutputs();
+
+            planCache.invalidate();
+        }
+
+        updateCraftables(added, removed);
+    }
+
+    // Keeps the patterns per output in the same order as the pattern list, so that the first match stays the same.
+    private void indexPatternOutputs() {
+        this.patternsByItemOutput.clear();
+        this.patternsByFluidOutput.clear();
+
+        for (ICraftingPattern pattern : patterns) {
+            for (ItemStack output : pattern.getOutputs()) {
+                List<ICraftingPattern> patternsForItem = patternsByItemOutput.computeIfAbsent(output.getItem(), key -> new ArrayList<>());
+
+                if (patternsForItem.isEmpty() || patternsForItem.get(patternsForItem.size() - 1) != pattern) {
+                    patternsForItem.add(pattern);
+                }
+            }
+
+            for (FluidStack output : pattern.getFluidOutputs()) {
+                List<ICraftingPattern> patternsForFluid = patternsByFluidOutput.computeIfAbsent(output.getFluid(), key -> new ArrayList<>());
+
+                if (patternsForFluid.isEmpty() || patternsForFluid.get(patternsForFluid.size() - 1) != pattern) {
+                    patternsForFluid.add(pattern);
+                }
+            }
+        }
+    }
+
+    private static boolean isSameInstances(List<ICraftingPattern> left, List<ICraftingPattern> right) {
+        if (left.size() != right.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < left.size(); ++i) {
+            if (left.get(i) != right.get(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public PatternPlanCache getPlanCache() {
+        return planCache;
+    }
+
+    private void onPatternsChanged(ICraftingPatternContainer container, List<ICraftingPattern> oldPatterns, List<ICraftingPattern> newPatterns, List<ICraftingPattern> added, List<ICraftingPattern> removed) {
+        List<ICraftingPattern> removedFromContainer = subtract(oldPatterns, newPatterns);
+        List<ICraftingPattern> addedToContainer = subtract(newPatterns, oldPatterns);
+
+        for (ICraftingPattern pattern : removedFromContainer) {
+            // The container might still have another copy of this pattern.
+            if (!newPatterns.contains(pattern)) {
+                Set<ICraftingPatternContainer> containersForPattern = this.patternToContainer.get(pattern);
+
+                if (containersForPattern != null) {
+                    containersForPattern.remove(container);
+
+                    if (containersForPattern.isEmpty()) {
+                        this.patternToContainer.remove(pattern);
+                    }
+                }
+            }
+        }
+
+        for (ICraftingPattern pattern : addedToContainer) {
+            this.patternToContainer.computeIfAbsent(pattern, key -> new LinkedHashSet<>()).add(container);
+        }
+
+        added.addAll(addedToContainer);
+        removed.addAll(removedFromContainer);
+    }
+
+    private static List<ICraftingPattern> subtract(List<ICraftingPattern> from, List<ICraftingPattern> toSubtract) {
+        List<ICraftingPattern> result = new ArrayList<>(from);
+
+        for (ICraftingPattern pattern : toSubtract) {
+            result.remove(pattern);
+        }
+
+        return result;
+    }
+
+    private void updateCraftables(List<ICraftingPattern> added, List<ICraftingPattern> removed) {
+        List<ItemStack> addedItems = new ArrayList<>();
+        List<FluidStack> addedFluids = new ArrayList<>();
+        List<ItemStack> removedItems = new ArrayList<>();
+        List<FluidStack> removedFluids = new ArrayList<>();
+
+        for (ICraftingPattern pattern : added) {
+            addedItems.addAll(pattern.getOutputs());
+            addedFluids.addAll(pattern.getFluidOutputs());
+        }
+
+        for (ICraftingPattern pattern : removed) {
+            removedItems.addAll(pattern.getOutputs());
+            removedFluids.addAll(pattern.getFluidOutputs());
+        }
+
+        network.getItemStorageCache().flushCraftables(applyCraftables(network.getItemStorageCache().getCraftablesList(), addedItems, removedItems));
+        network.getFluidStorageCache().flushCraftables(applyCraftables(network.getFluidStorageCache().getCraftablesList(), addedFluids, removedFluids));
+    }
+
+    // Every change is sent, as clients keep the full amount of each craftable and only drop it once that reaches 0.
+    static <T> List<StackListResult<T>> applyCraftables(IStackList<T> craftables, List<T> added, List<T> removed) {
+        List<StackListResult<T>> deltas = new ArrayList<>();
+
+        // Additions go first, so that a pattern moving between containers doesn't make the craftable disappear for a moment.
+        for (T output : added) {
+            deltas.add(craftables.add(output));
+        }
+
+        for (T output : removed) {
+            StackListResult<T> result = craftables.remove(output);
+
+            if (result != null) {
+                deltas.add(result);
+            }
+        }
+
+        return deltas;
     }
 
     private List<ICraftingPatternContainer> getContainers() {
@@ -412,7 +636,7 @@ public class CraftingManager implements ICraftingManager {
     @Nullable
     @Override
     public ICraftingPattern getPattern(ItemStack pattern) {
-        for (ICraftingPattern patternInList : patterns) {
+        for (ICraftingPattern patternInList : patternsByItemOutput.getOrDefault(pattern.getItem(), Collections.emptyList())) {
             for (ItemStack output : patternInList.getOutputs()) {
                 if (API.instance().getComparer().isEqualNoQuantity(output, pattern)) {
                     return patternInList;
@@ -426,7 +650,7 @@ public class CraftingManager implements ICraftingManager {
     @Nullable
     @Override
     public ICraftingPattern getPattern(FluidStack pattern) {
-        for (ICraftingPattern patternInList : patterns) {
+        for (ICraftingPattern patternInList : patternsByFluidOutput.getOrDefault(pattern.getFluid(), Collections.emptyList())) {
             for (FluidStack output : patternInList.getFluidOutputs()) {
                 if (API.instance().getComparer().isEqual(output, pattern, IComparer.COMPARE_NBT)) {
                     return patternInList;
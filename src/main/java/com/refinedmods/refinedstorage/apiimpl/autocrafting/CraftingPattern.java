@@ -28,6 +28,7 @@ public class CraftingPattern implements ICraftingPattern {
     private final CraftingPatternOutputs outputs;
     @Nullable
     private final AllowedTagList allowedTagList;
+    private final int hashCode;
 
     public CraftingPattern(CraftingPatternContext context, boolean processing, boolean exact, @Nullable ICraftingRecipe recipe, CraftingPatternInputs inputs, CraftingPatternOutputs outputs, @Nullable AllowedTagList allowedTagList) {
         this.context = context;
@@ -37,6 +38,7 @@ public class CraftingPattern implements ICraftingPattern {
         this.inputs = inputs;
         this.outputs = outputs;
         this.allowedTagList = allowedTagList;
+        this.hashCode = calculateHashCode();
     }
 
     @Nullable
@@ -157,6 +159,10 @@ public class CraftingPattern implements ICraftingPattern {
 
     @Override
     public boolean equals(Object otherObj) {
+        if (this == otherObj) {
+            return true;
+        }
+
         if (!(otherObj instanceof ICraftingPattern)) {
             return false;
         }
@@ -233,6 +239,10 @@ public class CraftingPattern implements ICraftingPattern {
 
     @Override
     public int hashCode() {
+        return hashCode;
+    }
+
+    private int calculateHashCode() {
         int result = 0;
 
         result = 31 * result + (processing ? 1 : 0);
@@ -8,7 +8,6 @@ import net.minecraft.inventory.CraftingInventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.ICraftingRecipe;
-import net.minecraft.item.crafting.IRecipeType;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.tags.ItemTags;
 import net.minecraft.util.NonNullList;
@@ -23,6 +22,9 @@ import java.util.*;
 public class CraftingPatternFactory {
     public static final CraftingPatternFactory INSTANCE = new CraftingPatternFactory();
 
+    private final CraftingRecipeCache recipeCache = new CraftingRecipeCache();
+    private final CraftingRecipeCache clientRecipeCache = new CraftingRecipeCache();
+
     public ICraftingPattern create(World world, ICraftingPatternContainer container, ItemStack stack) {
         CraftingPatternContext context = new CraftingPatternContext(container, stack);
 
@@ -54,7 +56,7 @@ public class CraftingPatternFactory {
                     fillCraftingInputs(inv, stack, inputs, i);
                 }
 
-                Optional<ICraftingRecipe> foundRecipe = world.getRecipeManager().getRecipe(IRecipeType.CRAFTING, inv, world);
+                Optional<ICraftingRecipe> foundRecipe = (world.isRemote() ? clientRecipeCache : recipeCache).getRecipe(world, inv);
                 if (foundRecipe.isPresent()) {
                     recipe = foundRecipe.get();
 
@@ -90,6 +92,10 @@ public class CraftingPatternFactory {
         );
     }
 
+    public void invalidateRecipeCache(boolean client) {
+        (client ? clientRecipeCache : recipeCache).invalidate();
+    }
+
     private void fillProcessingInputs(int i, ItemStack stack, List<NonNullList<ItemStack>> inputs, NonNullList<ItemStack> outputs, @Nullable AllowedTagList allowedTagList) throws CraftingPatternFactoryException {
         ItemStack input = PatternItem.getInputSlot(stack, i);
 
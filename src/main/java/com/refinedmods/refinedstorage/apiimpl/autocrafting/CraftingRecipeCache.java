@@ -0,0 +1,50 @@
+package com.refinedmods.refinedstorage.apiimpl.autocrafting;
+
+import com.refinedmods.refinedstorage.util.ItemStackKey;
+import net.minecraft.inventory.CraftingInventory;
+import net.minecraft.item.crafting.ICraftingRecipe;
+import net.minecraft.item.crafting.IRecipeType;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which crafting recipe matches a crafting grid, so that recreating patterns doesn't go through all recipes again.
+ * The grid is compared without quantities. Has to be invalidated when recipes or tags are reloaded.
+ */
+public class CraftingRecipeCache {
+    private final Map<List<ItemStackKey>, Optional<ICraftingRecipe>> recipes = new ConcurrentHashMap<>();
+
+    public Optional<ICraftingRecipe> getRecipe(World world, CraftingInventory inv) {
+        List<ItemStackKey> grid = new ArrayList<>(inv.getSizeInventory());
+
+        for (int i = 0; i < inv.getSizeInventory(); ++i) {
+            grid.add(new ItemStackKey(inv.getStackInSlot(i)));
+        }
+
+        Optional<ICraftingRecipe> recipe = recipes.get(grid);
+
+        if (recipe == null) {
+            recipe = world.getRecipeManager().getRecipe(IRecipeType.CRAFTING, inv, world);
+
+            // Only the stored keys get their own copy of the stacks, lookups wrap the stacks of the grid.
+            List<ItemStackKey> storedGrid = new ArrayList<>(grid.size());
+
+            for (ItemStackKey key : grid) {
+                storedGrid.add(ItemStackKey.copyOf(key.getStack()));
+            }
+
+            recipes.putIfAbsent(storedGrid, recipe);
+        }
+
+        return recipe;
+    }
+
+    public void invalidate() {
+        recipes.clear();
+    }
+}
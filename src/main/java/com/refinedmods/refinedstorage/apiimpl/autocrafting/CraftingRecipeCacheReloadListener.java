@@ -0,0 +1,19 @@
+package com.refinedmods.refinedstorage.apiimpl.autocrafting;
+
+import com.refinedmods.refinedstorage.item.PatternItem;
+import net.minecraft.client.resources.ReloadListener;
+import net.minecraft.profiler.IProfiler;
+import net.minecraft.resources.IResourceManager;
+
+public class CraftingRecipeCacheReloadListener extends ReloadListener<Void> {
+    @Override
+    protected Void prepare(IResourceManager resourceManager, IProfiler profiler) {
+        return null;
+    }
+
+    @Override
+    protected void apply(Void nothing, IResourceManager resourceManager, IProfiler profiler) {
+        CraftingPatternFactory.INSTANCE.invalidateRecipeCache(false);
+        PatternItem.invalidateCache();
+    }
+}
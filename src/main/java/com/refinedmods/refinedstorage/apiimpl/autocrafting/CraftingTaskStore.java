@@ -0,0 +1,98 @@
+package com.refinedmods.refinedstorage.apiimpl.autocrafting;
+
+import com.refinedmods.refinedstorage.api.network.INetwork;
+import com.refinedmods.refinedstorage.apiimpl.API;
+import com.refinedmods.refinedstorage.apiimpl.util.RSWorldSavedData;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.util.Constants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stores the crafting tasks of all networks in a world, apart from the networks themselves.
+ * The tasks are written by asking the crafting manager of every network for them, which only serializes the tasks that changed.
+ */
+public class CraftingTaskStore extends RSWorldSavedData {
+    public static final String NAME = "refinedstorage_crafting_tasks";
+
+    private static final String NBT_NETWORKS = "Networks";
+    private static final String NBT_POS = "Pos";
+    private static final String NBT_TASKS = "Tasks";
+
+    private static final Logger LOGGER = LogManager.getLogger(CraftingTaskStore.class);
+
+    private final ServerWorld world;
+
+    // Tasks of networks that haven't read them yet.
+    private final Map<BlockPos, ListNBT> tasksToRead = new HashMap<>();
+
+    public CraftingTaskStore(String name, ServerWorld world) {
+        super(name);
+
+        this.world = world;
+    }
+
+    public static CraftingTaskStore get(ServerWorld world) {
+        return world.getSavedData().getOrCreate(() -> new CraftingTaskStore(NAME, world), NAME);
+    }
+
+    @Nullable
+    public ListNBT takeTasks(BlockPos networkPos) {
+        return tasksToRead.remove(networkPos);
+    }
+
+    @Override
+    public void read(CompoundNBT tag) {
+        tasksToRead.clear();
+
+        ListNBT networks = tag.getList(NBT_NETWORKS, Constants.NBT.TAG_COMPOUND);
+
+        for (int i = 0; i < networks.size(); ++i) {
+            CompoundNBT networkTag = networks.getCompound(i);
+
+            tasksToRead.put(BlockPos.fromLong(networkTag.getLong(NBT_POS)), networkTag.getList(NBT_TASKS, Constants.NBT.TAG_COMPOUND));
+        }
+    }
+
+    @Override
+    public CompoundNBT write(CompoundNBT tag) {
+        ListNBT networks = new ListNBT();
+
+        for (INetwork network : API.instance().getNetworkManager(world).all()) {
+            try {
+                ListNBT tasks = new ListNBT();
+
+                ListNBT unread = tasksToRead.get(network.getPosition());
+                if (unread != null) {
+                    tasks.addAll(unread);
+                }
+
+                if (network.getCraftingManager() instanceof CraftingManager) {
+                    tasks.addAll(((CraftingManager) network.getCraftingManager()).writeTasks());
+                }
+
+                if (!tasks.isEmpty()) {
+                    CompoundNBT networkTag = new CompoundNBT();
+
+                    networkTag.putLong(NBT_POS, network.getPosition().toLong());
+                    networkTag.put(NBT_TASKS, tasks);
+
+                    networks.add(networkTag);
+                }
+            } catch (Throwable t) {
+                LOGGER.error("Error while saving crafting tasks", t);
+            }
+        }
+
+        tag.put(NBT_NETWORKS, networks);
+
+        return tag;
+    }
+}
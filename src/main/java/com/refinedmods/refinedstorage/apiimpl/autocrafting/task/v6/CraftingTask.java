@@ -6,6 +6,7 @@ import com.refinedmods.refinedstorage.api.autocrafting.task.CraftingTaskReadExce
 import com.refinedmods.refinedstorage.api.autocrafting.task.ICraftingRequestInfo;
 import com.refinedmods.refinedstorage.api.autocrafting.task.ICraftingTask;
 import com.refinedmods.refinedstorage.api.network.INetwork;
+import com.refinedmods.refinedstorage.api.storage.AccessType;
 import com.refinedmods.refinedstorage.api.storage.disk.IStorageDisk;
 import com.refinedmods.refinedstorage.api.util.Action;
 import com.refinedmods.refinedstorage.api.util.IComparer;
@@ -58,9 +59,15 @@ public class CraftingTask implements ICraftingTask, NodeListener {
     private final IStackList<FluidStack> toExtractInitialFluids;
 
     private int ticks;
+    private int internalItemsStored;
+    private int internalFluidsStored;
     private long startTime = -1;
     private int totalSteps;
     private int currentStep;
+    private int stateVersion;
+
+    private List<ICraftingMonitorElement> craftingMonitorElements;
+    private int craftingMonitorElementsVersion = -1;
 
     private final CraftingMonitorElementFactory craftingMonitorElementFactory = new CraftingMonitorElementFactory();
 
@@ -82,6 +89,8 @@ public class CraftingTask implements ICraftingTask, NodeListener {
         this.internalStorage = new ItemStorageDisk(null, -1, null);
         this.internalFluidStorage = new FluidStorageDisk(null, -1, null);
 
+        listenToInternalStorage();
+
         this.toExtractInitial = toExtractInitial;
         this.toExtractInitialFluids = toExtractInitialFluids;
     }
@@ -103,6 +112,8 @@ public class CraftingTask implements ICraftingTask, NodeListener {
         this.internalStorage = new ItemStorageDiskFactory().createFromNbt(null, tag.getCompound(NBT_INTERNAL_STORAGE));
         this.internalFluidStorage = new FluidStorageDiskFactory().createFromNbt(null, tag.getCompound(NBT_INTERNAL_FLUID_STORAGE));
 
+        listenToInternalStorage();
+
         this.toExtractInitial = SerializationUtil.readItemStackList(tag.getList(NBT_TO_EXTRACT_INITIAL, Constants.NBT.TAG_COMPOUND));
         this.toExtractInitialFluids = SerializationUtil.readFluidStackList(tag.getList(NBT_TO_EXTRACT_INITIAL_FLUIDS, Constants.NBT.TAG_COMPOUND));
 
@@ -113,6 +124,35 @@ public class CraftingTask implements ICraftingTask, NodeListener {
         }
     }
 
+    private void listenToInternalStorage() {
+        this.internalItemsStored = internalStorage.getStored();
+        this.internalFluidsStored = internalFluidStorage.getStored();
+
+        internalStorage.setSettings(this::onInternalStorageChanged, () -> AccessType.INSERT_EXTRACT);
+        internalFluidStorage.setSettings(this::onInternalStorageChanged, () -> AccessType.INSERT_EXTRACT);
+    }
+
+    private void onInternalStorageChanged() {
+        int itemsStored = internalStorage.getStored();
+        int fluidsStored = internalFluidStorage.getStored();
+
+        // Only an insertion can make a sleeping node runnable again.
+        if (itemsStored > internalItemsStored || fluidsStored > internalFluidsStored) {
+            nodes.all().forEach(Node::wakeUp);
+        }
+
+        this.internalItemsStored = itemsStored;
+        this.internalFluidsStored = fluidsStored;
+
+        onStateChanged();
+    }
+
+    private void onStateChanged() {
+        stateVersion++;
+
+        network.getCraftingManager().onTaskChanged();
+    }
+
     @Override
     public CompoundNBT writeToNbt(CompoundNBT tag) {
         tag.put(NBT_REQUESTED, requested.writeToNbt());
@@ -188,7 +228,9 @@ public class CraftingTask implements ICraftingTask, NodeListener {
             IoUtil.extractFluidsFromNetwork(toExtractInitialFluids, network, internalFluidStorage);
 
             for (Node node : nodes.all()) {
-                node.update(network, ticks, nodes, internalStorage, internalFluidStorage, this);
+                if (node.isRunnable(ticks)) {
+                    node.update(network, ticks, nodes, internalStorage, internalFluidStorage, this);
+                }
             }
 
             nodes.removeMarkedForRemoval();
@@ -244,7 +286,7 @@ public class CraftingTask implements ICraftingTask, NodeListener {
                         internalStorage.insert(remainder, remainder.getCount(), Action.PERFORM);
                     }
 
-                    network.getCraftingManager().onTaskChanged();
+                    onStateChanged();
 
                     if (size == 0) {
                         return 0;
@@ -281,7 +323,7 @@ public class CraftingTask implements ICraftingTask, NodeListener {
                         internalFluidStorage.insert(remainder, remainder.getAmount(), Action.PERFORM);
                     }
 
-                    network.getCraftingManager().onTaskChanged();
+                    onStateChanged();
 
                     if (size == 0) {
                         return 0;
@@ -295,7 +337,22 @@ public class CraftingTask implements ICraftingTask, NodeListener {
 
     @Override
     public List<ICraftingMonitorElement> getCraftingMonitorElements() {
-        return craftingMonitorElementFactory.getElements(nodes.all(), internalStorage, internalFluidStorage);
+        if (craftingMonitorElementsVersion != stateVersion) {
+            craftingMonitorElements = craftingMonitorElementFactory.getElements(nodes.all(), internalStorage, internalFluidStorage);
+            craftingMonitorElementsVersion = stateVersion;
+        }
+
+        return craftingMonitorElements;
+    }
+
+    @Override
+    public boolean hasStateVersion() {
+        return true;
+    }
+
+    @Override
+    public int getStateVersion() {
+        return stateVersion;
     }
 
     @Override
@@ -316,11 +373,19 @@ public class CraftingTask implements ICraftingTask, NodeListener {
     @Override
     public void onAllDone(Node node) {
         nodes.remove(node);
+
+        onStateChanged();
     }
 
     @Override
     public void onSingleDone(Node node) {
         currentStep++;
-        network.getCraftingManager().onTaskChanged();
+
+        onStateChanged();
+    }
+
+    @Override
+    public void onStateChanged(Node node) {
+        onStateChanged();
     }
 }
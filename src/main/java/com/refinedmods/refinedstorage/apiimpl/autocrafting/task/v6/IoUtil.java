@@ -143,6 +143,11 @@ public final class IoUtil {
         List<ItemStack> toRemove = new ArrayList<>();
 
         for (StackListEntry<ItemStack> toExtract : toExtractInitial.getStacks()) {
+            // Don't walk all the storages for stacks that the network doesn't have (yet).
+            if (network.getItemStorageCache().getList().get(toExtract.getStack(), DEFAULT_EXTRACT_FLAGS) == null) {
+                continue;
+            }
+
             ItemStack result = network.extractItem(toExtract.getStack(), toExtract.getStack().getCount(), Action.PERFORM);
 
             if (!result.isEmpty()) {
@@ -155,10 +160,6 @@ public final class IoUtil {
         for (ItemStack stack : toRemove) {
             toExtractInitial.remove(stack);
         }
-
-        if (!toRemove.isEmpty()) {
-            network.getCraftingManager().onTaskChanged();
-        }
     }
 
     public static void extractFluidsFromNetwork(IStackList<FluidStack> toExtractInitial, INetwork network, IStorageDisk<FluidStack> internalStorage) {
@@ -169,6 +170,10 @@ public final class IoUtil {
         List<FluidStack> toRemove = new ArrayList<>();
 
         for (StackListEntry<FluidStack> toExtract : toExtractInitial.getStacks()) {
+            if (network.getFluidStorageCache().getList().get(toExtract.getStack(), DEFAULT_EXTRACT_FLAGS) == null) {
+                continue;
+            }
+
             FluidStack result = network.extractFluid(toExtract.getStack(), toExtract.getStack().getAmount(), Action.PERFORM);
 
             if (!result.isEmpty()) {
@@ -181,9 +186,5 @@ public final class IoUtil {
         for (FluidStack stack : toRemove) {
             toExtractInitial.remove(stack);
         }
-
-        if (!toRemove.isEmpty()) {
-            network.getCraftingManager().onTaskChanged();
-        }
     }
 }
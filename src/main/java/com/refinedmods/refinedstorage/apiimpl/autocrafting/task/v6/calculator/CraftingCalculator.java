@@ -10,11 +10,13 @@ import com.refinedmods.refinedstorage.api.network.INetwork;
 import com.refinedmods.refinedstorage.api.util.IComparer;
 import com.refinedmods.refinedstorage.api.util.IStackList;
 import com.refinedmods.refinedstorage.apiimpl.API;
+import com.refinedmods.refinedstorage.apiimpl.autocrafting.CraftingManager;
 import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.CraftingPatternInputs;
 import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.CraftingTask;
 import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.node.CraftingNode;
 import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.node.Node;
 import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.node.NodeList;
+import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.node.NodeRequirements;
 import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.node.ProcessingNode;
 import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.preview.CraftingPreviewElementFactory;
 import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.preview.CraftingPreviewInfo;
@@ -24,11 +26,22 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.items.ItemHandlerHelper;
 
 import javax.annotation.Nullable;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 
 public class CraftingCalculator {
+    // Independent branches are only looked for near the top of the tree, deeper branches are too small to be worth it.
+    private static final int MAX_PARALLEL_DEPTH = 3;
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("Refined Storage Crafting Calculator #" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }, null, false);
+
     private final INetwork network;
     private final ICraftingRequestInfo requested;
     private final int quantity;
@@ -39,6 +52,7 @@ public class CraftingCalculator {
     private final CraftingPreviewInfo craftingPreviewInfo = new CraftingPreviewInfo();
 
     private final NodeList nodes = new NodeList();
+    private final PatternPlanCache plans;
 
     private final IStackList<ItemStack> toExtractInitial = API.instance().createItemStackList();
     private final IStackList<FluidStack> toExtractInitialFluids = API.instance().createFluidStackList();
@@ -46,10 +60,23 @@ public class CraftingCalculator {
     private long calculationStarted = -1;
 
     public CraftingCalculator(INetwork network, ICraftingRequestInfo requested, int quantity, ICraftingPattern pattern) {
+        this(network, requested, quantity, pattern, network.getCraftingManager() instanceof CraftingManager ? ((CraftingManager) network.getCraftingManager()).getPlanCache() : new PatternPlanCache(network.getCraftingManager()));
+    }
+
+    private CraftingCalculator(INetwork network, ICraftingRequestInfo requested, int quantity, ICraftingPattern pattern, PatternPlanCache plans) {
         this.network = network;
         this.requested = requested;
         this.quantity = quantity;
         this.pattern = pattern;
+        this.plans = plans;
+    }
+
+    // Shares the plans of the parent, as those are prepared before a branch is calculated.
+    private CraftingCalculator(CraftingCalculator parent) {
+        this(parent.network, parent.requested, parent.quantity, parent.pattern, parent.plans);
+
+        this.calculationStarted = parent.calculationStarted;
+        this.patternsUsed.addAll(parent.patternsUsed);
     }
 
     public ICalculationResult calculate() {
@@ -109,23 +136,23 @@ public class CraftingCalculator {
         IStackList<ItemStack> itemsToExtract = API.instance().createItemStackList();
         IStackList<FluidStack> fluidsToExtract = API.instance().createFluidStackList();
 
-        CraftingPatternInputs inputs = new CraftingPatternInputs(pattern);
+        PatternPlan plan = plans.get(pattern);
 
-        Node node = nodes.createOrAddToExistingNode(pattern, root, inputs.getRecipe(), qty);
+        Node node = nodes.createOrAddToExistingNode(pattern, root, plan.getInputs().getRecipe(), qty);
 
-        calculateForItems(qty, storageSource, fluidStorageSource, results, fluidResults, itemsToExtract, inputs, node);
+        calculateForItems(qty, storageSource, fluidStorageSource, results, fluidResults, itemsToExtract, plan, node);
 
         if (node instanceof CraftingNode) {
-            ItemStack output = pattern.getOutput(inputs.getRecipe());
+            ItemStack output = plan.getOutput();
             results.add(output, output.getCount() * qty);
 
-            for (ItemStack byproduct : pattern.getByproducts(inputs.getRecipe())) {
+            for (ItemStack byproduct : plan.getByproducts()) {
                 results.add(byproduct, byproduct.getCount() * qty);
             }
         } else if (node instanceof ProcessingNode) {
             ProcessingNode processing = (ProcessingNode) node;
 
-            calculateForFluids(qty, storageSource, fluidStorageSource, results, fluidResults, inputs, fluidsToExtract, processing);
+            calculateForFluids(qty, storageSource, fluidStorageSource, results, fluidResults, plan, fluidsToExtract, processing);
 
             for (ItemStack output : pattern.getOutputs()) {
                 results.add(output, output.getCount() * qty);
@@ -145,91 +172,324 @@ public class CraftingCalculator {
                                    IStackList<ItemStack> results,
                                    IStackList<FluidStack> fluidResults,
                                    IStackList<ItemStack> itemsToExtract,
-                                   CraftingPatternInputs inputs,
+                                   PatternPlan plan,
                                    Node node) throws CraftingCalculatorException {
-        int ingredientNumber = -1;
+        List<CraftingPatternInputs.Ingredient<ItemStack>> ingredients = plan.getInputs().getItemIngredients();
 
-        for (CraftingPatternInputs.Ingredient<ItemStack> ingredient : inputs.getItemIngredients()) {
-            ingredientNumber++;
+        if (RS.SERVER_CONFIG.getAutocrafting().getParallelCalculation() && ingredients.size() > 1 && patternsUsed.size() <= MAX_PARALLEL_DEPTH) {
+            List<Branch> branches = getIndependentBranches(plan, qty);
 
-            PossibleInputs<ItemStack> possibleInputs = new PossibleInputs<>(ingredient.getInputs());
-            possibleInputs.sort(storageSource, results);
+            if (branches.size() > 1) {
+                calculateBranches(branches, ingredients.size(), storageSource, fluidStorageSource, results, fluidResults, node);
+                return;
+            }
+        }
 
-            ItemStack possibleInput = possibleInputs.get();
+        for (int ingredientNumber = 0; ingredientNumber < ingredients.size(); ++ingredientNumber) {
+            calculateForItemIngredient(plan, ingredientNumber, qty, storageSource, fluidStorageSource, results, fluidResults, itemsToExtract, node.getRequirements());
+        }
+    }
 
-            ItemStack fromSelf = results.get(possibleInput);
-            ItemStack fromNetwork = storageSource.get(possibleInput);
+    private List<Branch> getIndependentBranches(PatternPlan plan, int qty) {
+        List<CraftingPatternInputs.Ingredient<ItemStack>> ingredients = plan.getInputs().getItemIngredients();
+        List<Branch> branches = new ArrayList<>();
 
-            int remaining = ingredient.getCount() * qty;
+        for (int ingredientNumber = 0; ingredientNumber < ingredients.size(); ++ingredientNumber) {
+            Branch branch = new Branch(plan, qty, IngredientClosure.of(network, ingredients.get(ingredientNumber).getInputs()));
+            branch.ingredientNumbers.add(ingredientNumber);
 
-            if (remaining < 0) { // int overflow
-                throw new CraftingCalculatorException(CalculationResultType.TOO_COMPLEX);
+            // Merge every branch that shares anything with this ingredient into the first one that does.
+            Iterator<Branch> it = branches.iterator();
+            Branch target = null;
+
+            while (it.hasNext()) {
+                Branch existing = it.next();
+
+                if (existing.closure.intersects(branch.closure)) {
+                    if (target == null) {
+                        target = existing;
+                    } else {
+                        target.mergeWith(existing);
+                        it.remove();
+                    }
+                }
             }
 
-            while (remaining > 0) {
-                if (fromSelf != null) {
-                    int toTake = Math.min(remaining, fromSelf.getCount());
+            if (target == null) {
+                branches.add(branch);
+            } else {
+                target.mergeWith(branch);
+            }
+        }
 
-                    node.getRequirements().addItemRequirement(ingredientNumber, possibleInput, toTake, ingredient.getCount());
+        // Branches can only be calculated independently when they don't add to nodes that already exist.
+        for (Branch branch : branches) {
+            for (ICraftingPattern patternInBranch : branch.closure.getPatterns()) {
+                if (nodes.contains(patternInBranch)) {
+                    return Collections.emptyList();
+                }
+            }
+        }
 
-                    results.remove(fromSelf, toTake);
+        return branches;
+    }
 
-                    remaining -= toTake;
+    private void calculateBranches(List<Branch> branches,
+                                   int ingredientCount,
+                                   IStackList<ItemStack> storageSource,
+                                   IStackList<FluidStack> fluidStorageSource,
+                                   IStackList<ItemStack> results,
+                                   IStackList<FluidStack> fluidResults,
+                                   Node node) throws CraftingCalculatorException {
+        for (Branch branch : branches) {
+            branch.prepare(storageSource, fluidStorageSource, results, fluidResults);
+        }
 
-                    fromSelf = results.get(possibleInput);
+        if (ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(branches);
+        } else {
+            POOL.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(branches);
                 }
+            });
+        }
 
-                if (fromNetwork != null && remaining > 0) {
-                    int toTake = Math.min(remaining, fromNetwork.getCount());
+        // Report the same failure as the serial calculation would: the one of the first ingredient that failed.
+        Branch failed = null;
+        for (Branch branch : branches) {
+            if (branch.exception != null && (failed == null || branch.failedIngredientNumber < failed.failedIngredientNumber)) {
+                failed = branch;
+            }
+        }
 
-                    craftingPreviewInfo.getToTake().add(possibleInput, toTake);
+        if (failed != null) {
+            throw failed.exception;
+        }
 
-                    node.getRequirements().addItemRequirement(ingredientNumber, possibleInput, toTake, ingredient.getCount());
+        Branch[] branchPerIngredient = new Branch[ingredientCount];
 
-                    storageSource.remove(fromNetwork, toTake);
+        for (Branch branch : branches) {
+            branch.mergeInto(storageSource, fluidStorageSource, results, fluidResults);
 
-                    remaining -= toTake;
+            for (int ingredientNumber : branch.ingredientNumbers) {
+                branchPerIngredient[ingredientNumber] = branch;
+            }
+        }
 
-                    fromNetwork = storageSource.get(possibleInput);
+        // Nodes and crafting preview entries are added per ingredient in order, like the serial calculation would.
+        // Requirements are stored by ingredient number and have to be added in order as well.
+        for (int ingredientNumber = 0; ingredientNumber < ingredientCount; ++ingredientNumber) {
+            branchPerIngredient[ingredientNumber].mergeIngredientInto(ingredientNumber);
 
-                    toExtractInitial.add(possibleInput, toTake);
+            node.getRequirements().addItemRequirements(ingredientNumber, branchPerIngredient[ingredientNumber].requirements);
+        }
+    }
+
+    private void calculateForItemIngredient(PatternPlan plan,
+                                            int ingredientNumber,
+                                            int qty,
+                                            IStackList<ItemStack> storageSource,
+                                            IStackList<FluidStack> fluidStorageSource,
+                                            IStackList<ItemStack> results,
+                                            IStackList<FluidStack> fluidResults,
+                                            IStackList<ItemStack> itemsToExtract,
+                                            NodeRequirements requirements) throws CraftingCalculatorException {
+        CraftingPatternInputs.Ingredient<ItemStack> ingredient = plan.getInputs().getItemIngredients().get(ingredientNumber);
+
+        PossibleInputs<ItemStack> possibleInputs = new PossibleInputs<>(ingredient.getInputs());
+        possibleInputs.sort(storageSource, results);
+
+        int remaining = ingredient.getCount() * qty;
+
+        if (remaining < 0) { // int overflow
+            throw new CraftingCalculatorException(CalculationResultType.TOO_COMPLEX);
+        }
+
+        remaining = planItemIngredient(plan, ingredientNumber, ingredient, possibleInputs, remaining, storageSource, fluidStorageSource, results, fluidResults, itemsToExtract, requirements);
+
+        if (remaining > 0) {
+            calculateForItemIngredientStepwise(plan, ingredientNumber, ingredient, possibleInputs, remaining, storageSource, fluidStorageSource, results, fluidResults, itemsToExtract, requirements);
+        }
+    }
+
+    // Takes the whole remaining amount of each possible input at once, in order of preference, and crafts the rest with a single sub calculation.
+    // Returns what is still needed when the sub calculation didn't yield enough, the possible inputs are left at the input that still needs it.
+    private int planItemIngredient(PatternPlan plan,
+                                   int ingredientNumber,
+                                   CraftingPatternInputs.Ingredient<ItemStack> ingredient,
+                                   PossibleInputs<ItemStack> possibleInputs,
+                                   int remaining,
+                                   IStackList<ItemStack> storageSource,
+                                   IStackList<FluidStack> fluidStorageSource,
+                                   IStackList<ItemStack> results,
+                                   IStackList<FluidStack> fluidResults,
+                                   IStackList<ItemStack> itemsToExtract,
+                                   NodeRequirements requirements) throws CraftingCalculatorException {
+        do {
+            ItemStack possibleInput = possibleInputs.get();
+
+            remaining -= takeFromResults(ingredientNumber, ingredient, possibleInput, remaining, results, requirements);
+
+            if (remaining > 0) {
+                remaining -= takeFromStorage(ingredientNumber, ingredient, possibleInput, remaining, storageSource, requirements);
+            }
+
+            if (remaining == 0) {
+                return 0;
+            }
+
+            PatternPlan.SubPattern subPattern = plan.getSubPattern(possibleInput);
+
+            if (subPattern != null) {
+                int subQty = ((remaining - 1) / subPattern.getQuantityPerCraft()) + 1;
+
+                calculateInternal(subQty, storageSource, fluidStorageSource, results, fluidResults, subPattern.getPattern(), false);
+
+                ItemStack crafted = results.get(possibleInput);
+                if (crafted == null) {
+                    throw new IllegalStateException("Recursive calculation didn't yield anything");
                 }
 
-                if (remaining > 0) {
-                    ICraftingPattern subPattern = network.getCraftingManager().getPattern(possibleInput);
+                craftingPreviewInfo.getToCraft().add(crafted.copy());
 
-                    if (subPattern != null) {
-                        int qtyPerCraft = getQuantityPerCraft(possibleInput, null, subPattern);
-                        int subQty = ((remaining - 1) / qtyPerCraft) + 1;
+                return remaining - takeFromResults(ingredientNumber, ingredient, possibleInput, remaining, results, requirements);
+            }
+        } while (possibleInputs.cycle());
 
-                        calculateInternal(subQty, storageSource, fluidStorageSource, results, fluidResults, subPattern, false);
+        // Give up, the possible inputs are back at the first one.
+        ItemStack possibleInput = possibleInputs.get();
 
-                        fromSelf = results.get(possibleInput);
-                        if (fromSelf == null) {
-                            throw new IllegalStateException("Recursive calculation didn't yield anything");
-                        }
+        craftingPreviewInfo.getMissing().add(possibleInput, remaining);
 
-                        fromNetwork = storageSource.get(possibleInput);
+        itemsToExtract.add(possibleInput, remaining);
 
-                        // fromSelf contains the amount crafted after the loop.
-                        craftingPreviewInfo.getToCraft().add(fromSelf.copy());
-                    } else {
-                        if (!possibleInputs.cycle()) {
-                            // Give up.
-                            possibleInput = possibleInputs.get(); // Revert back to 0.
+        return 0;
+    }
 
-                            craftingPreviewInfo.getMissing().add(possibleInput, remaining);
+    private int takeFromResults(int ingredientNumber,
+                                CraftingPatternInputs.Ingredient<ItemStack> ingredient,
+                                ItemStack possibleInput,
+                                int remaining,
+                                IStackList<ItemStack> results,
+                                NodeRequirements requirements) {
+        ItemStack fromSelf = results.get(possibleInput);
+        if (fromSelf == null) {
+            return 0;
+        }
 
-                            itemsToExtract.add(possibleInput, remaining);
+        int toTake = Math.min(remaining, fromSelf.getCount());
 
-                            remaining = 0;
-                        } else {
-                            // Retry with new input...
-                            possibleInput = possibleInputs.get();
+        requirements.addItemRequirement(ingredientNumber, possibleInput, toTake, ingredient.getCount());
 
-                            fromSelf = results.get(possibleInput);
-                            fromNetwork = storageSource.get(possibleInput);
-                        }
+        results.remove(fromSelf, toTake);
+
+        return toTake;
+    }
+
+    private int takeFromStorage(int ingredientNumber,
+                                CraftingPatternInputs.Ingredient<ItemStack> ingredient,
+                                ItemStack possibleInput,
+                                int remaining,
+                                IStackList<ItemStack> storageSource,
+                                NodeRequirements requirements) {
+        ItemStack fromNetwork = storageSource.get(possibleInput);
+        if (fromNetwork == null) {
+            return 0;
+        }
+
+        int toTake = Math.min(remaining, fromNetwork.getCount());
+
+        craftingPreviewInfo.getToTake().add(possibleInput, toTake);
+
+        requirements.addItemRequirement(ingredientNumber, possibleInput, toTake, ingredient.getCount());
+
+        storageSource.remove(fromNetwork, toTake);
+
+        toExtractInitial.add(possibleInput, toTake);
+
+        return toTake;
+    }
+
+    private void calculateForItemIngredientStepwise(PatternPlan plan,
+                                                    int ingredientNumber,
+                                                    CraftingPatternInputs.Ingredient<ItemStack> ingredient,
+                                                    PossibleInputs<ItemStack> possibleInputs,
+                                                    int remaining,
+                                                    IStackList<ItemStack> storageSource,
+                                                    IStackList<FluidStack> fluidStorageSource,
+                                                    IStackList<ItemStack> results,
+                                                    IStackList<FluidStack> fluidResults,
+                                                    IStackList<ItemStack> itemsToExtract,
+                                                    NodeRequirements requirements) throws CraftingCalculatorException {
+        ItemStack possibleInput = possibleInputs.get();
+
+        ItemStack fromSelf = results.get(possibleInput);
+        ItemStack fromNetwork = storageSource.get(possibleInput);
+
+        while (remaining > 0) {
+            if (fromSelf != null) {
+                int toTake = Math.min(remaining, fromSelf.getCount());
+
+                requirements.addItemRequirement(ingredientNumber, possibleInput, toTake, ingredient.getCount());
+
+                results.remove(fromSelf, toTake);
+
+                remaining -= toTake;
+
+                fromSelf = results.get(possibleInput);
+            }
+
+            if (fromNetwork != null && remaining > 0) {
+                int toTake = Math.min(remaining, fromNetwork.getCount());
+
+                craftingPreviewInfo.getToTake().add(possibleInput, toTake);
+
+                requirements.addItemRequirement(ingredientNumber, possibleInput, toTake, ingredient.getCount());
+
+                storageSource.remove(fromNetwork, toTake);
+
+                remaining -= toTake;
+
+                fromNetwork = storageSource.get(possibleInput);
+
+                toExtractInitial.add(possibleInput, toTake);
+            }
+
+            if (remaining > 0) {
+                PatternPlan.SubPattern subPattern = plan.getSubPattern(possibleInput);
+
+                if (subPattern != null) {
+                    int subQty = ((remaining - 1) / subPattern.getQuantityPerCraft()) + 1;
+
+                    calculateInternal(subQty, storageSource, fluidStorageSource, results, fluidResults, subPattern.getPattern(), false);
+
+                    fromSelf = results.get(possibleInput);
+                    if (fromSelf == null) {
+                        throw new IllegalStateException("Recursive calculation didn't yield anything");
+                    }
+
+                    fromNetwork = storageSource.get(possibleInput);
+
+                    // fromSelf contains the amount crafted after the loop.
+                    craftingPreviewInfo.getToCraft().add(fromSelf.copy());
+                } else {
+                    if (!possibleInputs.cycle()) {
+                        // Give up.
+                        possibleInput = possibleInputs.get(); // Revert back to 0.
+
+                        craftingPreviewInfo.getMissing().add(possibleInput, remaining);
+
+                        itemsToExtract.add(possibleInput, remaining);
+
+                        remaining = 0;
+                    } else {
+                        // Retry with new input...
+                        possibleInput = possibleInputs.get();
+
+                        fromSelf = results.get(possibleInput);
+                        fromNetwork = storageSource.get(possibleInput);
                     }
                 }
             }
@@ -241,12 +501,12 @@ public class CraftingCalculator {
                                     IStackList<FluidStack> fluidStorageSource,
                                     IStackList<ItemStack> results,
                                     IStackList<FluidStack> fluidResults,
-                                    CraftingPatternInputs inputs,
+                                    PatternPlan plan,
                                     IStackList<FluidStack> fluidsToExtract,
                                     ProcessingNode node) throws CraftingCalculatorException {
         int ingredientNumber = -1;
 
-        for (CraftingPatternInputs.Ingredient<FluidStack> ingredient : inputs.getFluidIngredients()) {
+        for (CraftingPatternInputs.Ingredient<FluidStack> ingredient : plan.getInputs().getFluidIngredients()) {
             ingredientNumber++;
 
             PossibleInputs<FluidStack> possibleInputs = new PossibleInputs<>(ingredient.getInputs());
@@ -293,13 +553,12 @@ public class CraftingCalculator {
                 }
 
                 if (remaining > 0) {
-                    ICraftingPattern subPattern = network.getCraftingManager().getPattern(possibleInput);
+                    PatternPlan.SubPattern subPattern = plan.getSubPattern(possibleInput);
 
                     if (subPattern != null) {
-                        int qtyPerCraft = getQuantityPerCraft(null, possibleInput, subPattern);
-                        int subQty = ((remaining - 1) / qtyPerCraft) + 1;
+                        int subQty = ((remaining - 1) / subPattern.getQuantityPerCraft()) + 1;
 
-                        calculateInternal(subQty, storageSource, fluidStorageSource, results, fluidResults, subPattern, false);
+                        calculateInternal(subQty, storageSource, fluidStorageSource, results, fluidResults, subPattern.getPattern(), false);
 
                         fromSelf = fluidResults.get(possibleInput, IComparer.COMPARE_NBT);
                         if (fromSelf == null) {
@@ -333,7 +592,7 @@ public class CraftingCalculator {
         }
     }
 
-    private int getQuantityPerCraft(@Nullable ItemStack item, @Nullable FluidStack fluid, ICraftingPattern pattern) {
+    static int getQuantityPerCraft(@Nullable ItemStack item, @Nullable FluidStack fluid, ICraftingPattern pattern) {
         if (item != null) {
             return getQuantityPerCraftForItem(item, pattern);
         } else if (fluid != null) {
@@ -343,7 +602,7 @@ public class CraftingCalculator {
         }
     }
 
-    private int getQuantityPerCraftForFluid(FluidStack fluid, ICraftingPattern pattern) {
+    private static int getQuantityPerCraftForFluid(FluidStack fluid, ICraftingPattern pattern) {
         int qty = 0;
 
         for (FluidStack output : pattern.getFluidOutputs()) {
@@ -355,7 +614,7 @@ public class CraftingCalculator {
         return qty;
     }
 
-    private int getQuantityPerCraftForItem(ItemStack item, ICraftingPattern pattern) {
+    private static int getQuantityPerCraftForItem(ItemStack item, ICraftingPattern pattern) {
         int qty = 0;
 
         for (ItemStack output : pattern.getOutputs()) {
@@ -370,4 +629,112 @@ public class CraftingCalculator {
 
         return qty;
     }
+
+    private class Branch extends RecursiveAction {
+        private final PatternPlan plan;
+        private final int qty;
+        private final IngredientClosure closure;
+        private final List<Integer> ingredientNumbers = new ArrayList<>();
+
+        private final CraftingCalculator calculator = new CraftingCalculator(CraftingCalculator.this);
+        private final NodeRequirements requirements = new NodeRequirements();
+
+        private IStackList<ItemStack> storageSource;
+        private IStackList<FluidStack> fluidStorageSource;
+        private IStackList<ItemStack> results;
+        private IStackList<FluidStack> fluidResults;
+
+        @Nullable
+        private CraftingCalculatorException exception;
+        private int failedIngredientNumber;
+
+        // How many nodes and crafting preview entries there were after each ingredient of this branch was calculated.
+        private final Map<Integer, int[]> ingredientEnds = new HashMap<>();
+        private List<Node> branchNodes;
+        private int nodesMerged;
+        private int toCraftMerged;
+        private int toCraftFluidsMerged;
+
+        private Branch(PatternPlan plan, int qty, IngredientClosure closure) {
+            this.plan = plan;
+            this.qty = qty;
+            this.closure = closure;
+        }
+
+        private void mergeWith(Branch other) {
+            closure.addAll(other.closure);
+            ingredientNumbers.addAll(other.ingredientNumbers);
+            Collections.sort(ingredientNumbers);
+        }
+
+        // Called before forking. Building a plan runs recipe code of the pattern, so every plan the branch can
+        // reach is built here on the server thread and the branch itself only does the list arithmetic.
+        // The closure is transitive, so branches nested in this one find their plans built as well.
+        private void prepare(IStackList<ItemStack> storageSource, IStackList<FluidStack> fluidStorageSource, IStackList<ItemStack> results, IStackList<FluidStack> fluidResults) {
+            for (ICraftingPattern patternInBranch : closure.getPatterns()) {
+                plans.get(patternInBranch);
+            }
+
+            this.storageSource = closure.copyItems(storageSource);
+            this.fluidStorageSource = closure.copyFluids(fluidStorageSource);
+            this.results = closure.copyItems(results);
+            this.fluidResults = closure.copyFluids(fluidResults);
+        }
+
+        @Override
+        protected void compute() {
+            IStackList<ItemStack> itemsToExtract = API.instance().createItemStackList();
+
+            try {
+                for (int ingredientNumber : ingredientNumbers) {
+                    this.failedIngredientNumber = ingredientNumber;
+
+                    calculator.calculateForItemIngredient(plan, ingredientNumber, qty, storageSource, fluidStorageSource, results, fluidResults, itemsToExtract, requirements);
+
+                    ingredientEnds.put(ingredientNumber, new int[]{
+                        calculator.nodes.all().size(),
+                        calculator.craftingPreviewInfo.getToCraft().size(),
+                        calculator.craftingPreviewInfo.getToCraftFluids().size()
+                    });
+                }
+            } catch (CraftingCalculatorException e) {
+                this.exception = e;
+            }
+        }
+
+        private void mergeInto(IStackList<ItemStack> storageSource, IStackList<FluidStack> fluidStorageSource, IStackList<ItemStack> results, IStackList<FluidStack> fluidResults) {
+            closure.writeItemsBack(this.storageSource, storageSource);
+            closure.writeFluidsBack(this.fluidStorageSource, fluidStorageSource);
+            closure.writeItemsBack(this.results, results);
+            closure.writeFluidsBack(this.fluidResults, fluidResults);
+
+            this.branchNodes = new ArrayList<>(calculator.nodes.all());
+
+            calculator.toExtractInitial.getStacks().forEach(entry -> toExtractInitial.add(entry.getStack()));
+            calculator.toExtractInitialFluids.getStacks().forEach(entry -> toExtractInitialFluids.add(entry.getStack()));
+
+            CraftingPreviewInfo branchInfo = calculator.craftingPreviewInfo;
+
+            branchInfo.getMissing().getStacks().forEach(entry -> craftingPreviewInfo.getMissing().add(entry.getStack()));
+            branchInfo.getMissingFluids().getStacks().forEach(entry -> craftingPreviewInfo.getMissingFluids().add(entry.getStack()));
+            branchInfo.getToTake().getStacks().forEach(entry -> craftingPreviewInfo.getToTake().add(entry.getStack()));
+            branchInfo.getToTakeFluids().getStacks().forEach(entry -> craftingPreviewInfo.getToTakeFluids().add(entry.getStack()));
+        }
+
+        // Has to be called for the ingredients of this branch in ascending order, after mergeInto.
+        private void mergeIngredientInto(int ingredientNumber) {
+            int[] ends = ingredientEnds.get(ingredientNumber);
+
+            for (Node node : branchNodes.subList(nodesMerged, ends[0])) {
+                nodes.put(node.getPattern(), node);
+            }
+
+            craftingPreviewInfo.getToCraft().addAll(calculator.craftingPreviewInfo.getToCraft().subList(toCraftMerged, ends[1]));
+            craftingPreviewInfo.getToCraftFluids().addAll(calculator.craftingPreviewInfo.getToCraftFluids().subList(toCraftFluidsMerged, ends[2]));
+
+            this.nodesMerged = ends[0];
+            this.toCraftMerged = ends[1];
+            this.toCraftFluidsMerged = ends[2];
+        }
+    }
 }
@@ -0,0 +1,156 @@
+package com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.calculator;
+
+import com.refinedmods.refinedstorage.api.autocrafting.ICraftingPattern;
+import com.refinedmods.refinedstorage.api.network.INetwork;
+import com.refinedmods.refinedstorage.api.util.IStackList;
+import com.refinedmods.refinedstorage.api.util.StackListEntry;
+import com.refinedmods.refinedstorage.apiimpl.API;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.NonNullList;
+import net.minecraftforge.fluids.FluidStack;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * All the items, fluids and patterns that the calculation of an ingredient can read or modify.
+ * Ingredients with disjoint closures can be calculated independently of each other.
+ */
+public class IngredientClosure {
+    private final Set<Item> items = new HashSet<>();
+    private final Set<Fluid> fluids = new HashSet<>();
+    private final Set<ICraftingPattern> patterns = new HashSet<>();
+
+    public static IngredientClosure of(INetwork network, List<ItemStack> inputs) {
+        IngredientClosure closure = new IngredientClosure();
+
+        for (ItemStack input : inputs) {
+            closure.visitItem(network, input);
+        }
+
+        return closure;
+    }
+
+    private void visitItem(INetwork network, ItemStack stack) {
+        items.add(stack.getItem());
+
+        ICraftingPattern pattern = network.getCraftingManager().getPattern(stack);
+        if (pattern != null) {
+            visitPattern(network, pattern);
+        }
+    }
+
+    private void visitFluid(INetwork network, FluidStack stack) {
+        fluids.add(stack.getFluid());
+
+        ICraftingPattern pattern = network.getCraftingManager().getPattern(stack);
+        if (pattern != null) {
+            visitPattern(network, pattern);
+        }
+    }
+
+    private void visitPattern(INetwork network, ICraftingPattern pattern) {
+        if (!patterns.add(pattern)) {
+            return;
+        }
+
+        for (ItemStack output : pattern.getOutputs()) {
+            items.add(output.getItem());
+        }
+
+        for (FluidStack output : pattern.getFluidOutputs()) {
+            fluids.add(output.getFluid());
+        }
+
+        if (!pattern.isProcessing()) {
+            for (ItemStack byproduct : pattern.getByproducts()) {
+                items.add(byproduct.getItem());
+            }
+        }
+
+        for (NonNullList<ItemStack> inputsForSlot : pattern.getInputs()) {
+            for (ItemStack input : inputsForSlot) {
+                visitItem(network, input);
+            }
+        }
+
+        for (NonNullList<FluidStack> inputsForSlot : pattern.getFluidInputs()) {
+            for (FluidStack input : inputsForSlot) {
+                visitFluid(network, input);
+            }
+        }
+    }
+
+    public boolean intersects(IngredientClosure other) {
+        return !Collections.disjoint(items, other.items) ||
+            !Collections.disjoint(fluids, other.fluids) ||
+            !Collections.disjoint(patterns, other.patterns);
+    }
+
+    public void addAll(IngredientClosure other) {
+        items.addAll(other.items);
+        fluids.addAll(other.fluids);
+        patterns.addAll(other.patterns);
+    }
+
+    public Set<ICraftingPattern> getPatterns() {
+        return patterns;
+    }
+
+    public IStackList<ItemStack> copyItems(IStackList<ItemStack> from) {
+        IStackList<ItemStack> copy = API.instance().createItemStackList();
+
+        for (Item item : items) {
+            for (StackListEntry<ItemStack> entry : from.getStacks(new ItemStack(item))) {
+                copy.add(entry.getStack().copy());
+            }
+        }
+
+        return copy;
+    }
+
+    public IStackList<FluidStack> copyFluids(IStackList<FluidStack> from) {
+        IStackList<FluidStack> copy = API.instance().createFluidStackList();
+
+        for (Fluid fluid : fluids) {
+            for (StackListEntry<FluidStack> entry : from.getStacks(new FluidStack(fluid, 1))) {
+                copy.add(entry.getStack().copy());
+            }
+        }
+
+        return copy;
+    }
+
+    public void writeItemsBack(IStackList<ItemStack> from, IStackList<ItemStack> to) {
+        for (Item item : items) {
+            ItemStack key = new ItemStack(item);
+
+            for (StackListEntry<ItemStack> entry : new ArrayList<>(to.getStacks(key))) {
+                to.remove(entry.getStack(), entry.getStack().getCount());
+            }
+
+            for (StackListEntry<ItemStack> entry : from.getStacks(key)) {
+                to.add(entry.getStack());
+            }
+        }
+    }
+
+    public void writeFluidsBack(IStackList<FluidStack> from, IStackList<FluidStack> to) {
+        for (Fluid fluid : fluids) {
+            FluidStack key = new FluidStack(fluid, 1);
+
+            for (StackListEntry<FluidStack> entry : new ArrayList<>(to.getStacks(key))) {
+                to.remove(entry.getStack(), entry.getStack().getAmount());
+            }
+
+            for (StackListEntry<FluidStack> entry : from.getStacks(key)) {
+                to.add(entry.getStack());
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.calculator;
+
+import com.refinedmods.refinedstorage.api.autocrafting.ICraftingManager;
+import com.refinedmods.refinedstorage.api.autocrafting.ICraftingPattern;
+import com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.CraftingPatternInputs;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.NonNullList;
+import net.minecraftforge.fluids.FluidStack;
+
+import javax.annotation.Nullable;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The part of calculating a pattern that doesn't depend on what is in storage:
+ * the combined inputs, the output and byproducts of a crafting pattern and the pattern that is used to craft each possible input.
+ * Only availability has to be checked again when a pattern is calculated with a plan.
+ */
+public class PatternPlan {
+    private final CraftingPatternInputs inputs;
+    private final ItemStack output;
+    private final NonNullList<ItemStack> byproducts;
+
+    // Keyed by the exact input instances of the ingredients, as those are what the calculator works with.
+    private final Map<ItemStack, SubPattern> itemSubPatterns = new IdentityHashMap<>();
+    private final Map<FluidStack, SubPattern> fluidSubPatterns = new IdentityHashMap<>();
+
+    public PatternPlan(ICraftingManager craftingManager, ICraftingPattern pattern) {
+        this.inputs = new CraftingPatternInputs(pattern);
+
+        if (pattern.isProcessing()) {
+            this.output = ItemStack.EMPTY;
+            this.byproducts = NonNullList.create();
+        } else {
+            this.output = pattern.getOutput(inputs.getRecipe());
+            this.byproducts = pattern.getByproducts(inputs.getRecipe());
+        }
+
+        for (CraftingPatternInputs.Ingredient<ItemStack> ingredient : inputs.getItemIngredients()) {
+            for (ItemStack input : ingredient.getInputs()) {
+                ICraftingPattern subPattern = craftingManager.getPattern(input);
+
+                if (subPattern != null) {
+                    itemSubPatterns.put(input, new SubPattern(subPattern, CraftingCalculator.getQuantityPerCraft(input, null, subPattern)));
+                }
+            }
+        }
+
+        for (CraftingPatternInputs.Ingredient<FluidStack> ingredient : inputs.getFluidIngredients()) {
+            for (FluidStack input : ingredient.getInputs()) {
+                ICraftingPattern subPattern = craftingManager.getPattern(input);
+
+                if (subPattern != null) {
+                    fluidSubPatterns.put(input, new SubPattern(subPattern, CraftingCalculator.getQuantityPerCraft(null, input, subPattern)));
+                }
+            }
+        }
+    }
+
+    public CraftingPatternInputs getInputs() {
+        return inputs;
+    }
+
+    public ItemStack getOutput() {
+        return output;
+    }
+
+    public NonNullList<ItemStack> getByproducts() {
+        return byproducts;
+    }
+
+    @Nullable
+    public SubPattern getSubPattern(ItemStack input) {
+        return itemSubPatterns.get(input);
+    }
+
+    @Nullable
+    public SubPattern getSubPattern(FluidStack input) {
+        return fluidSubPatterns.get(input);
+    }
+
+    public static class SubPattern {
+        private final ICraftingPattern pattern;
+        private final int quantityPerCraft;
+
+        public SubPattern(ICraftingPattern pattern, int quantityPerCraft) {
+            this.pattern = pattern;
+            this.quantityPerCraft = quantityPerCraft;
+        }
+
+        public ICraftingPattern getPattern() {
+            return pattern;
+        }
+
+        public int getQuantityPerCraft() {
+            return quantityPerCraft;
+        }
+    }
+}
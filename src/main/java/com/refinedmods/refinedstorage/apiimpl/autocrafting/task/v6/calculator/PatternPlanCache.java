@@ -0,0 +1,29 @@
+package com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.calculator;
+
+import com.refinedmods.refinedstorage.api.autocrafting.ICraftingManager;
+import com.refinedmods.refinedstorage.api.autocrafting.ICraftingPattern;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a {@link PatternPlan} per pattern of a network, so that repeated calculations don't have to work them out again.
+ * Has to be invalidated whenever the patterns of the network change, since the sub patterns depend on them.
+ */
+public class PatternPlanCache {
+    private final ICraftingManager craftingManager;
+    // Concurrent, as independent branches of a calculation can ask for plans at the same time.
+    private final Map<ICraftingPattern, PatternPlan> plans = new ConcurrentHashMap<>();
+
+    public PatternPlanCache(ICraftingManager craftingManager) {
+        this.craftingManager = craftingManager;
+    }
+
+    public PatternPlan get(ICraftingPattern pattern) {
+        return plans.computeIfAbsent(pattern, key -> new PatternPlan(craftingManager, key));
+    }
+
+    public void invalidate() {
+        plans.clear();
+    }
+}
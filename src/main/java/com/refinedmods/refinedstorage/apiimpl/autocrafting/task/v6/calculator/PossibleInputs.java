@@ -31,6 +31,10 @@ public class PossibleInputs<T> {
     }
 
     public void sort(IStackList<T> mutatedStorage, IStackList<T> results) {
+        if (possibilities.size() <= 1) {
+            return;
+        }
+
         possibilities.sort((a, b) -> {
             int ar = mutatedStorage.getCount(a);
             int br = mutatedStorage.getCount(b);
@@ -75,11 +75,14 @@ public class CraftingNode extends Node {
                             return;
                         }
                     } else {
+                        sleepUntilItemsArrive();
                         break;
                     }
                 }
             }
         }
+
+        sleepUntilNextInterval(network, ticks);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.refinedmods.refinedstorage.apiimpl.autocrafting.task.v6.node;
 
 import com.refinedmods.refinedstorage.api.autocrafting.ICraftingPattern;
+import com.refinedmods.refinedstorage.api.autocrafting.ICraftingPatternContainer;
 import com.refinedmods.refinedstorage.api.autocrafting.task.CraftingTaskReadException;
 import com.refinedmods.refinedstorage.api.network.INetwork;
 import com.refinedmods.refinedstorage.api.storage.disk.IStorageDisk;
@@ -24,6 +25,10 @@ public abstract class Node {
 
     protected final NodeRequirements requirements = new NodeRequirements();
 
+    // Not persisted, after a load every node gets updated at least once to determine this again.
+    private int nextUpdateTick;
+    private boolean waitingForItems;
+
     protected Node(ICraftingPattern pattern, boolean root) {
         this.pattern = pattern;
         this.root = root;
@@ -43,6 +48,40 @@ public abstract class Node {
 
     public abstract void update(INetwork network, int ticks, NodeList nodes, IStorageDisk<ItemStack> internalStorage, IStorageDisk<FluidStack> internalFluidStorage, NodeListener listener);
 
+    /**
+     * A node is runnable when it isn't waiting for items to arrive and one of its containers can update.
+     *
+     * @param ticks the ticks of the task
+     * @return whether this node should be updated this tick
+     */
+    public boolean isRunnable(int ticks) {
+        return !waitingForItems && ticks >= nextUpdateTick;
+    }
+
+    /**
+     * Called when items or fluids arrived that this node might be waiting for.
+     */
+    public void wakeUp() {
+        this.waitingForItems = false;
+    }
+
+    protected void sleepUntilItemsArrive() {
+        this.waitingForItems = true;
+    }
+
+    protected void sleepUntilNextInterval(INetwork network, int ticks) {
+        int next = Integer.MAX_VALUE;
+
+        for (ICraftingPatternContainer container : network.getCraftingManager().getAllContainers(pattern)) {
+            int interval = container.getUpdateInterval();
+
+            next = Math.min(next, interval <= 0 ? ticks + 1 : (ticks / interval + 1) * interval);
+        }
+
+        // Without containers there is no interval to wait for, keep checking every tick.
+        this.nextUpdateTick = next == Integer.MAX_VALUE ? ticks + 1 : next;
+    }
+
     public void onCalculationFinished() {
         this.totalQuantity = quantity;
     }
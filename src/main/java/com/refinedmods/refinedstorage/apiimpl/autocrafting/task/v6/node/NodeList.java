@@ -31,6 +31,10 @@ public class NodeList {
         }
     }
 
+    public boolean contains(ICraftingPattern pattern) {
+        return nodes.containsKey(pattern);
+    }
+
     public boolean isEmpty() {
         return nodes.isEmpty();
     }
@@ -4,4 +4,6 @@ public interface NodeListener {
     void onAllDone(Node node);
 
     void onSingleDone(Node node);
+
+    void onStateChanged(Node node);
 }
@@ -56,6 +56,16 @@ public class NodeRequirements {
         cachedSimulatedFluidRequirementSet = null;
     }
 
+    public void addItemRequirements(int ingredientNumber, NodeRequirements other) {
+        IStackList<ItemStack> list = other.itemRequirements.get(ingredientNumber);
+
+        if (list != null) {
+            for (StackListEntry<ItemStack> entry : list.getStacks()) {
+                addItemRequirement(ingredientNumber, entry.getStack(), entry.getStack().getCount(), other.itemsNeededPerCraft.get(ingredientNumber));
+            }
+        }
+    }
+
     public IStackList<ItemStack> getSingleItemRequirementSet(boolean simulate) {
         IStackList<ItemStack> cached = cachedSimulatedItemRequirementSet;
         if (simulate && cached != null) {
@@ -71,6 +71,9 @@ public class ProcessingNode extends Node {
         if (getQuantity() <= 0) {
             if (state == ProcessingState.PROCESSED) {
                 listener.onAllDone(this);
+            } else {
+                // Everything is inserted, only the outputs are left to be received.
+                sleepUntilItemsArrive();
             }
             return;
         }
@@ -91,6 +94,7 @@ public class ProcessingNode extends Node {
             if (interval == 0 || ticks % interval == 0) {
                 for (int i = 0; i < container.getMaximumSuccessfulCraftingUpdates(); i++) {
                     if (getQuantity() <= 0) {
+                        sleepUntilItemsArrive();
                         return;
                     }
 
@@ -133,6 +137,7 @@ public class ProcessingNode extends Node {
                             canInsertFullAmount = IoUtil.insertIntoInventory(container.getConnectedFluidInventory(), extractedFluids.getStacks(), Action.SIMULATE);
                         }
                     } else {
+                        sleepUntilItemsArrive();
                         break;
                     }
 
@@ -164,8 +169,10 @@ public class ProcessingNode extends Node {
         }
 
         if (originalState != state) {
-            network.getCraftingManager().onTaskChanged();
+            listener.onStateChanged(this);
         }
+
+        sleepUntilNextInterval(network, ticks);
     }
 
     public ProcessingState getState() {
@@ -204,11 +211,13 @@ public class ProcessingNode extends Node {
     public void markReceived(ItemStack stack, int count) {
         itemsReceived.add(stack, count);
         updateFinishedQuantity();
+        wakeUp();
     }
 
     public void markReceived(FluidStack stack, int count) {
         fluidsReceived.add(stack, count);
         updateFinishedQuantity();
+        wakeUp();
     }
 
     public void updateFinishedQuantity() {
@@ -55,6 +55,8 @@ import java.util.function.Predicate;
 public class Network implements INetwork, IRedstoneConfigurable {
     private static final int THROTTLE_INACTIVE_TO_ACTIVE = 20;
     private static final int THROTTLE_ACTIVE_TO_INACTIVE = 4;
+    // The network is only marked dirty when the stored energy changed by more than 1/x of the capacity.
+    private static final int ENERGY_DIRTY_FRACTION = 100;
 
     private static final String NBT_ENERGY = "Energy";
     private static final String NBT_ITEM_STORAGE_TRACKER = "ItemStorageTracker";
@@ -64,7 +66,7 @@ public class Network implements INetwork, IRedstoneConfigurable {
 
     private final IItemGridHandler itemGridHandler = new ItemGridHandler(this);
     private final IFluidGridHandler fluidGridHandler = new FluidGridHandler(this);
-    private final INetworkItemManager networkItemManager = new NetworkItemManager(this);
+    private final NetworkItemManager networkItemManager = new NetworkItemManager(this);
     private final INetworkNodeGraph nodeGraph = new NetworkNodeGraph(this);
     private final ICraftingManager craftingManager = new CraftingManager(this);
     private final ISecurityManager securityManager = new SecurityManager(this);
@@ -91,11 +93,15 @@ public class Network implements INetwork, IRedstoneConfigurable {
     private long[] tickTimes = new long[100];
     private int tickCounter = 0;
 
+    private boolean dirty = true;
+    private int lastWrittenEnergy;
+
     public Network(World world, BlockPos pos, NetworkType type) {
         this.pos = pos;
         this.world = world;
         this.type = type;
         this.root = new RootNetworkNode(this, world, pos);
+        this.nodeGraph.addListener(networkItemManager::invalidateTransmitters);
         this.nodeGraph.addListener(() -> {
             TileEntity tile = world.getTileEntity(pos);
 
@@ -155,10 +161,6 @@ public class Network implements INetwork, IRedstoneConfigurable {
 
             if (canRun()) {
                 craftingManager.update();
-
-                if (!craftingManager.getTasks().isEmpty()) {
-                    markDirty();
-                }
             }
 
             if (type == NetworkType.NORMAL) {
@@ -171,6 +173,10 @@ public class Network implements INetwork, IRedstoneConfigurable {
                 energy.setStored(energy.getMaxEnergyStored());
             }
 
+            if (Math.abs(energy.getEnergyStored() - lastWrittenEnergy) > energy.getMaxEnergyStored() / ENERGY_DIRTY_FRACTION) {
+                markDirty();
+            }
+
             boolean canRun = canRun();
 
             if (couldRun != canRun) {
@@ -475,6 +481,8 @@ public class Network implements INetwork, IRedstoneConfigurable {
             this.energy.setStored(tag.getInt(NBT_ENERGY));
         }
 
+        this.lastWrittenEnergy = this.energy.getEnergyStored();
+
         redstoneMode = RedstoneMode.read(tag);
 
         craftingManager.readFromNbt(tag);
@@ -492,6 +500,8 @@ public class Network implements INetwork, IRedstoneConfigurable {
 
     @Override
     public CompoundNBT writeToNbt(CompoundNBT tag) {
+        this.lastWrittenEnergy = this.energy.getEnergyStored();
+
         tag.putInt(NBT_ENERGY, this.energy.getEnergyStored());
 
         redstoneMode.write(tag);
@@ -511,9 +521,22 @@ public class Network implements INetwork, IRedstoneConfigurable {
 
     @Override
     public void markDirty() {
+        this.dirty = true;
+
         API.instance().getNetworkManager((ServerWorld) world).markForSaving();
     }
 
+    /**
+     * @return whether the network has been marked dirty since the last call
+     */
+    public boolean clearDirty() {
+        boolean wasDirty = dirty;
+
+        this.dirty = false;
+
+        return wasDirty;
+    }
+
     public static int getEnergyScaled(int stored, int capacity, int scale) {
         return (int) ((float) stored / (float) capacity * (float) scale);
     }
@@ -3,6 +3,7 @@ package com.refinedmods.refinedstorage.apiimpl.network;
 import com.refinedmods.refinedstorage.api.network.INetwork;
 import com.refinedmods.refinedstorage.api.network.node.INetworkNode;
 import com.refinedmods.refinedstorage.apiimpl.API;
+import com.refinedmods.refinedstorage.apiimpl.network.node.VisualUpdateBatcher;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -26,6 +27,8 @@ public class NetworkListener {
             }
 
             e.world.getProfiler().endSection();
+
+            VisualUpdateBatcher.update((ServerWorld) e.world);
         }
     }
 }
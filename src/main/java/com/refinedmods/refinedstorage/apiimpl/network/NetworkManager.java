@@ -14,6 +14,8 @@ import org.apache.logging.log4j.Logger;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class NetworkManager extends RSWorldSavedData implements INetworkManager {
@@ -30,6 +32,11 @@ public class NetworkManager extends RSWorldSavedData implements INetworkManager
 
     private final ConcurrentHashMap<BlockPos, INetwork> networks = new ConcurrentHashMap<>();
 
+    // The last written data of every network, reused for networks that weren't marked dirty since.
+    private final Map<BlockPos, CompoundNBT> writtenNetworks = new HashMap<>();
+    private long networksWritten;
+    private long networksSkipped;
+
     public NetworkManager(String name, World world) {
         super(name);
 
@@ -42,6 +49,7 @@ public class NetworkManager extends RSWorldSavedData implements INetworkManager
             ListNBT networksTag = tag.getList(NBT_NETWORKS, Constants.NBT.TAG_COMPOUND);
 
             this.networks.clear();
+            this.writtenNetworks.clear();
 
             for (int i = 0; i < networksTag.size(); ++i) {
                 CompoundNBT networkTag = networksTag.getCompound(i);
@@ -67,12 +75,27 @@ public class NetworkManager extends RSWorldSavedData implements INetworkManager
     public CompoundNBT write(CompoundNBT tag) {
         ListNBT list = new ListNBT();
 
+        int written = 0;
+
+        writtenNetworks.keySet().retainAll(networks.keySet());
+
         for (INetwork network : all()) {
             try {
+                CompoundNBT data = writtenNetworks.get(network.getPosition());
+
+                boolean dirty = !(network instanceof Network) || ((Network) network).clearDirty();
+                if (data == null || dirty) {
+                    data = network.writeToNbt(new CompoundNBT());
+
+                    writtenNetworks.put(network.getPosition(), data);
+
+                    written++;
+                }
+
                 CompoundNBT networkTag = new CompoundNBT();
 
                 networkTag.putLong(NBT_POS, network.getPosition().toLong());
-                networkTag.put(NBT_DATA, network.writeToNbt(new CompoundNBT()));
+                networkTag.put(NBT_DATA, data);
                 networkTag.putInt(NBT_TYPE, network.getType().ordinal());
 
                 list.add(networkTag);
@@ -83,6 +106,11 @@ public class NetworkManager extends RSWorldSavedData implements INetworkManager
 
         tag.put(NBT_NETWORKS, list);
 
+        networksWritten += written;
+        networksSkipped += list.size() - written;
+
+        logger.debug("Saved {} networks, {} of which had to be written again ({} written, {} skipped in total)", list.size(), written, networksWritten, networksSkipped);
+
         return tag;
     }
 
@@ -99,6 +127,7 @@ public class NetworkManager extends RSWorldSavedData implements INetworkManager
         }
 
         networks.remove(pos);
+        writtenNetworks.remove(pos);
     }
 
     @Override
@@ -112,6 +141,7 @@ public class NetworkManager extends RSWorldSavedData implements INetworkManager
         }
 
         networks.put(pos, network);
+        writtenNetworks.remove(pos);
     }
 
     @Override
@@ -119,6 +149,14 @@ public class NetworkManager extends RSWorldSavedData implements INetworkManager
         return networks.values();
     }
 
+    public long getNetworksWritten() {
+        return networksWritten;
+    }
+
+    public long getNetworksSkipped() {
+        return networksSkipped;
+    }
+
     @Override
     public void markForSaving() {
         markDirty();
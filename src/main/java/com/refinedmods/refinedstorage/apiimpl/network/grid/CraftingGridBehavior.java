@@ -21,8 +21,6 @@ import net.minecraftforge.fml.hooks.BasicEventHooks;
 import net.minecraftforge.items.ItemHandlerHelper;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.List;
 
 public class CraftingGridBehavior implements ICraftingGridBehavior {
     @Override
@@ -86,10 +84,10 @@ public class CraftingGridBehavior implements ICraftingGridBehavior {
     public void onCraftedShift(INetworkAwareGrid grid, PlayerEntity player) {
         CraftingInventory matrix = grid.getCraftingMatrix();
         INetwork network = grid.getNetwork();
-        List<ItemStack> craftedItemsList = new ArrayList<>();
         ItemStack crafted = grid.getCraftingResult().getStackInSlot(0);
 
-        int maxCrafted = crafted.getMaxStackSize();
+        // The amount of crafts that fit in a single stack of the result.
+        int maxCrafts = Math.max(1, crafted.getMaxStackSize() / crafted.getCount());
 
         int amountCrafted = 0;
         boolean useNetwork = network != null && grid.isGridActive();
@@ -106,30 +104,30 @@ public class CraftingGridBehavior implements ICraftingGridBehavior {
 
         ForgeHooks.setCraftingPlayer(player);
         // Do while the item is still craftable (aka is the result slot still the same as the original item?) and we don't exceed the max stack size.
+        int crafts = 0;
         do {
             grid.onCrafted(player, availableItems, usedItems);
 
-            craftedItemsList.add(crafted.copy());
-
             amountCrafted += crafted.getCount();
-        } while (API.instance().getComparer().isEqual(crafted, grid.getCraftingResult().getStackInSlot(0)) && amountCrafted < maxCrafted && amountCrafted + crafted.getCount() <= maxCrafted);
+            crafts++;
+        } while (crafts < maxCrafts && API.instance().getComparer().isEqual(crafted, grid.getCraftingResult().getStackInSlot(0)));
 
         if (useNetwork) {
             usedItems.getStacks().forEach(stack -> network.extractItem(stack.getStack(), stack.getStack().getCount(), Action.PERFORM));
         }
 
-        for (ItemStack craftedItem : craftedItemsList) {
-            if (!player.inventory.addItemStackToInventory(craftedItem.copy())) {
+        // All crafted items are equal, so they are handed out as a single stack instead of one stack per craft.
+        ItemStack craftedItems = ItemHandlerHelper.copyStackWithSize(crafted, amountCrafted);
 
-                ItemStack remainder = craftedItem;
+        if (!player.inventory.addItemStackToInventory(craftedItems)) {
+            ItemStack remainder = craftedItems;
 
-                if (useNetwork) {
-                    remainder = network.insertItem(craftedItem, craftedItem.getCount(), Action.PERFORM);
-                }
+            if (useNetwork) {
+                remainder = network.insertItem(craftedItems, craftedItems.getCount(), Action.PERFORM);
+            }
 
-                if (!remainder.isEmpty()) {
-                    InventoryHelper.spawnItemStack(player.getEntityWorld(), player.getPosX(), player.getPosY(), player.getPosZ(), remainder);
-                }
+            if (!remainder.isEmpty()) {
+                InventoryHelper.spawnItemStack(player.getEntityWorld(), player.getPosX(), player.getPosY(), player.getPosZ(), remainder);
             }
         }
 
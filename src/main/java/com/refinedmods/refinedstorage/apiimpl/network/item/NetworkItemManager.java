@@ -1,15 +1,11 @@
 package com.refinedmods.refinedstorage.apiimpl.network.item;
 
 import com.refinedmods.refinedstorage.api.network.INetwork;
-import com.refinedmods.refinedstorage.api.network.INetworkNodeGraphEntry;
-import com.refinedmods.refinedstorage.api.network.IWirelessTransmitter;
 import com.refinedmods.refinedstorage.api.network.item.INetworkItem;
 import com.refinedmods.refinedstorage.api.network.item.INetworkItemManager;
 import com.refinedmods.refinedstorage.api.network.item.INetworkItemProvider;
-import com.refinedmods.refinedstorage.api.network.node.INetworkNode;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.util.text.TranslationTextComponent;
 
 import java.util.Map;
@@ -18,37 +14,24 @@ import java.util.concurrent.ConcurrentHashMap;
 public class NetworkItemManager implements INetworkItemManager {
     private final INetwork network;
     private final Map<PlayerEntity, INetworkItem> items = new ConcurrentHashMap<>();
+    private final WirelessTransmitterIndex transmitters;
 
     public NetworkItemManager(INetwork network) {
         this.network = network;
+        this.transmitters = new WirelessTransmitterIndex(network);
     }
 
-    @Override
-    public void open(PlayerEntity player, ItemStack stack, int slotId) {
-        boolean inRange = false;
-
-        for (INetworkNodeGraphEntry entry : network.getNodeGraph().all()) {
-            INetworkNode node = entry.getNode();
-
-            if (node instanceof IWirelessTransmitter &&
-                network.canRun() &&
-                node.isActive() &&
-                ((IWirelessTransmitter) node).getDimension() == player.getEntityWorld().getDimensionKey()) {
-                IWirelessTransmitter transmitter = (IWirelessTransmitter) node;
-
-                Vector3d pos = player.getPositionVec();
-
-                double distance = Math.sqrt(Math.pow(transmitter.getOrigin().getX() - pos.getX(), 2) + Math.pow(transmitter.getOrigin().getY() - pos.getY(), 2) + Math.pow(transmitter.getOrigin().getZ() - pos.getZ(), 2));
-
-                if (distance < transmitter.getRange()) {
-                    inRange = true;
+    public void invalidateTransmitters() {
+        transmitters.invalidate();
+    }
 
-                    break;
-                }
-            }
-        }
+    public boolean isInRange(PlayerEntity player) {
+        return transmitters.isInRange(player.getEntityWorld().getDimensionKey(), player.getPositionVec());
+    }
 
-        if (!inRange) {
+    @Override
+    public void open(PlayerEntity player, ItemStack stack, int slotId) {
+        if (!isInRange(player)) {
             player.sendMessage(new TranslationTextComponent("misc.refinedstorage.network_item.out_of_range"), player.getUniqueID());
 
             return;
@@ -0,0 +1,139 @@
+package com.refinedmods.refinedstorage.apiimpl.network.item;
+
+import com.refinedmods.refinedstorage.api.network.INetwork;
+import com.refinedmods.refinedstorage.api.network.INetworkNodeGraphEntry;
+import com.refinedmods.refinedstorage.api.network.IWirelessTransmitter;
+import com.refinedmods.refinedstorage.api.network.node.INetworkNode;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes the wireless transmitters of a network by the chunks they cover, per dimension.
+ * Rebuilt lazily after the node graph or the range of a transmitter changes.
+ */
+public class WirelessTransmitterIndex {
+    // Transmitters covering more chunks than this are checked for every position instead of being indexed per chunk.
+    private static final int MAX_INDEXED_CHUNKS = 1024;
+
+    private final INetwork network;
+
+    private final Map<RegistryKey<World>, Map<Long, List<IWirelessTransmitter>>> transmittersByChunk = new HashMap<>();
+    private final Map<RegistryKey<World>, List<IWirelessTransmitter>> wideTransmitters = new HashMap<>();
+    private boolean valid;
+
+    public WirelessTransmitterIndex(INetwork network) {
+        this.network = network;
+    }
+
+    public void invalidate() {
+        this.valid = false;
+    }
+
+    public boolean isInRange(RegistryKey<World> dimension, Vector3d pos) {
+        if (!network.canRun()) {
+            return false;
+        }
+
+        if (!valid) {
+            rebuild();
+        }
+
+        Map<Long, List<IWirelessTransmitter>> chunks = transmittersByChunk.get(dimension);
+        if (chunks != null) {
+            List<IWirelessTransmitter> transmitters = chunks.get(ChunkPos.asLong((int) Math.floor(pos.getX()) >> 4, (int) Math.floor(pos.getZ()) >> 4));
+
+            if (transmitters != null && isInRange(transmitters, pos)) {
+                return true;
+            }
+        }
+
+        return isInRange(wideTransmitters.getOrDefault(dimension, Collections.emptyList()), pos);
+    }
+
+    private boolean isInRange(List<IWirelessTransmitter> transmitters, Vector3d pos) {
+        for (IWirelessTransmitter transmitter : transmitters) {
+            if (!((INetworkNode) transmitter).isActive()) {
+                continue;
+            }
+
+            BlockPos origin = transmitter.getOrigin();
+
+            double distanceSq = pos.squareDistanceTo(origin.getX(), origin.getY(), origin.getZ());
+
+            if (distanceSq < (double) transmitter.getRange() * transmitter.getRange()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void rebuild() {
+        transmittersByChunk.clear();
+        wideTransmitters.clear();
+
+        for (INetworkNodeGraphEntry entry : network.getNodeGraph().all()) {
+            INetworkNode node = entry.getNode();
+
+            if (node instanceof IWirelessTransmitter) {
+                add((IWirelessTransmitter) node);
+            }
+        }
+
+        valid = true;
+    }
+
+    private void add(IWirelessTransmitter transmitter) {
+        long[] coveredChunks = getCoveredChunks(transmitter.getOrigin(), transmitter.getRange());
+
+        if (coveredChunks == null) {
+            wideTransmitters.computeIfAbsent(transmitter.getDimension(), d -> new ArrayList<>()).add(transmitter);
+
+            return;
+        }
+
+        Map<Long, List<IWirelessTransmitter>> chunks = transmittersByChunk.computeIfAbsent(transmitter.getDimension(), d -> new HashMap<>());
+
+        for (long chunk : coveredChunks) {
+            chunks.computeIfAbsent(chunk, p -> new ArrayList<>(1)).add(transmitter);
+        }
+    }
+
+    /**
+     * @return the chunks covered by a transmitter with the given origin and range,
+     * or null if those are more than can be indexed
+     */
+    @Nullable
+    static long[] getCoveredChunks(BlockPos origin, int range) {
+        // In longs, as the range of a transmitter can be as high as Integer.MAX_VALUE.
+        long minChunkX = ((long) origin.getX() - range) >> 4;
+        long maxChunkX = ((long) origin.getX() + range) >> 4;
+        long minChunkZ = ((long) origin.getZ() - range) >> 4;
+        long maxChunkZ = ((long) origin.getZ() + range) >> 4;
+
+        if ((maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) > MAX_INDEXED_CHUNKS) {
+            return null;
+        }
+
+        long[] chunks = new long[(int) ((maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1))];
+        int i = 0;
+
+        for (int chunkX = (int) minChunkX; chunkX <= maxChunkX; ++chunkX) {
+            for (int chunkZ = (int) minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
+                chunks[i++] = ChunkPos.asLong(chunkX, chunkZ);
+            }
+        }
+
+        return chunks;
+    }
+}
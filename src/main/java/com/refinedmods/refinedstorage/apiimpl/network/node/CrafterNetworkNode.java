@@ -95,6 +95,11 @@ public class CrafterNetworkNode extends NetworkNode implements ICraftingPatternC
 
     private final List<ICraftingPattern> patterns = new ArrayList<>();
 
+    // Patterns that are read from disk are only built once the crafter is on a running network, one pattern per tick.
+    private boolean patternsInvalid = true;
+    private int patternsLoadingSlot;
+    private final List<ICraftingPattern> patternsLoading = new ArrayList<>();
+
     private final UpgradeItemHandler upgrades = (UpgradeItemHandler) new UpgradeItemHandler(4, UpgradeItem.Type.SPEED)
         .addListener(new NetworkNodeInventoryListener(this));
 
@@ -116,19 +121,59 @@ public class CrafterNetworkNode extends NetworkNode implements ICraftingPatternC
     }
 
     private void invalidate() {
+        // A load that is still going on is for inventory contents that are outdated now.
+        this.patternsInvalid = false;
+        this.patternsLoadingSlot = 0;
+        this.patternsLoading.clear();
+
         patterns.clear();
 
         for (int i = 0; i < patternsInventory.getSlots(); ++i) {
-            ItemStack patternStack = patternsInventory.getStackInSlot(i);
+            ICraftingPattern pattern = createPattern(patternsInventory.getStackInSlot(i));
 
-            if (!patternStack.isEmpty()) {
-                ICraftingPattern pattern = ((ICraftingPatternProvider) patternStack.getItem()).create(world, patternStack, this);
+            if (pattern != null) {
+                patterns.add(pattern);
+            }
+        }
+    }
 
-                if (pattern.isValid()) {
-                    patterns.add(pattern);
-                }
+    private void loadNextPattern() {
+        // Empty slots and invalid patterns don't count, so a crafter is done in as many ticks as it has patterns.
+        while (patternsLoadingSlot < patternsInventory.getSlots()) {
+            ICraftingPattern pattern = createPattern(patternsInventory.getStackInSlot(patternsLoadingSlot++));
+
+            if (pattern != null) {
+                patternsLoading.add(pattern);
+
+                break;
             }
         }
+
+        if (patternsLoadingSlot < patternsInventory.getSlots()) {
+            return;
+        }
+
+        this.patternsInvalid = false;
+        this.patternsLoadingSlot = 0;
+
+        patterns.clear();
+        patterns.addAll(patternsLoading);
+        patternsLoading.clear();
+
+        if (network != null) {
+            network.getCraftingManager().invalidate();
+        }
+    }
+
+    @Nullable
+    private ICraftingPattern createPattern(ItemStack patternStack) {
+        if (patternStack.isEmpty()) {
+            return null;
+        }
+
+        ICraftingPattern pattern = ((ICraftingPatternProvider) patternStack.getItem()).create(world, patternStack, this);
+
+        return pattern.isValid() ? pattern : null;
     }
 
     @Override
@@ -140,8 +185,8 @@ public class CrafterNetworkNode extends NetworkNode implements ICraftingPatternC
     public void update() {
         super.update();
 
-        if (ticks == 1) {
-            invalidate();
+        if (patternsInvalid && canUpdate()) {
+            loadNextPattern();
         }
 
         if (mode == CrafterMode.PULSE_INSERTS_NEXT_SET && world.isBlockPresent(pos)) {
@@ -189,7 +234,9 @@ public class CrafterNetworkNode extends NetworkNode implements ICraftingPatternC
 
         StackUtils.readItems(patternsInventory, 0, tag);
 
-        invalidate();
+        this.patternsInvalid = true;
+        this.patternsLoadingSlot = 0;
+        this.patternsLoading.clear();
 
         StackUtils.readItems(upgrades, 1, tag);
 
@@ -326,6 +373,11 @@ public class CrafterNetworkNode extends NetworkNode implements ICraftingPatternC
         return patterns;
     }
 
+    @Override
+    public boolean isLoadingPatterns() {
+        return patternsInvalid;
+    }
+
     @Override
     @Nullable
     public IItemHandlerModifiable getPatternInventory() {
@@ -71,6 +71,10 @@ public class SecurityManagerNetworkNode extends NetworkNode implements ISecurity
 
         if (ticks == 1) {
             invalidate();
+
+            if (network != null) {
+                network.getSecurityManager().invalidate();
+            }
         }
     }
 
@@ -82,7 +82,7 @@ public class StorageMonitorNetworkNode extends NetworkNode implements IComparabl
         } else if (oldAmount != newAmount) {
             oldAmount = newAmount;
 
-            WorldUtils.updateBlock(world, pos);
+            VisualUpdateBatcher.requestUpdate(world, pos);
         }
     }
 
@@ -0,0 +1,80 @@
+package com.refinedmods.refinedstorage.apiimpl.network.node;
+
+import com.refinedmods.refinedstorage.RS;
+import com.refinedmods.refinedstorage.network.ChunkVisualUpdateMessage;
+import com.refinedmods.refinedstorage.tile.IVisualUpdateTile;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Collects the visual updates of tiles, like a changed Storage Monitor amount or disk LED, and sends them
+ * as one {@link ChunkVisualUpdateMessage} per chunk every {@link #UPDATE_INTERVAL} ticks to the players tracking that chunk.
+ */
+public final class VisualUpdateBatcher {
+    public static final int UPDATE_INTERVAL = 10;
+
+    private static final Map<ServerWorld, Map<ChunkPos, Set<BlockPos>>> REQUESTED = new WeakHashMap<>();
+
+    private VisualUpdateBatcher() {
+    }
+
+    public static void requestUpdate(@Nullable World world, BlockPos pos) {
+        if (world instanceof ServerWorld) {
+            REQUESTED
+                .computeIfAbsent((ServerWorld) world, w -> new HashMap<>())
+                .computeIfAbsent(new ChunkPos(pos), p -> new HashSet<>())
+                .add(pos.toImmutable());
+        }
+    }
+
+    public static void update(ServerWorld world) {
+        if (world.getGameTime() % UPDATE_INTERVAL != 0) {
+            return;
+        }
+
+        Map<ChunkPos, Set<BlockPos>> requested = REQUESTED.remove(world);
+        if (requested == null) {
+            return;
+        }
+
+        for (Map.Entry<ChunkPos, Set<BlockPos>> chunk : requested.entrySet()) {
+            if (!world.getChunkProvider().isChunkLoaded(chunk.getKey())) {
+                continue;
+            }
+
+            Map<BlockPos, byte[]> updates = new LinkedHashMap<>();
+
+            for (BlockPos pos : chunk.getValue()) {
+                TileEntity tile = world.getTileEntity(pos);
+
+                if (tile instanceof IVisualUpdateTile) {
+                    PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+
+                    ((IVisualUpdateTile) tile).writeVisualUpdate(buf);
+
+                    byte[] data = new byte[buf.readableBytes()];
+                    buf.readBytes(data);
+
+                    updates.put(pos, data);
+                }
+            }
+
+            if (!updates.isEmpty()) {
+                RS.NETWORK_HANDLER.sendToTrackingChunk(world.getChunk(chunk.getKey().x, chunk.getKey().z), new ChunkVisualUpdateMessage(updates));
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.refinedmods.refinedstorage.apiimpl.network.node;
 
 import com.refinedmods.refinedstorage.RS;
 import com.refinedmods.refinedstorage.api.network.IWirelessTransmitter;
+import com.refinedmods.refinedstorage.apiimpl.network.item.NetworkItemManager;
 import com.refinedmods.refinedstorage.inventory.item.BaseItemHandler;
 import com.refinedmods.refinedstorage.inventory.item.UpgradeItemHandler;
 import com.refinedmods.refinedstorage.inventory.listener.NetworkNodeInventoryListener;
@@ -18,7 +19,13 @@ import net.minecraftforge.items.IItemHandler;
 public class WirelessTransmitterNetworkNode extends NetworkNode implements IWirelessTransmitter {
     public static final ResourceLocation ID = new ResourceLocation(RS.ID, "wireless_transmitter");
 
-    private final UpgradeItemHandler upgrades = (UpgradeItemHandler) new UpgradeItemHandler(4, UpgradeItem.Type.RANGE).addListener(new NetworkNodeInventoryListener(this));
+    private final UpgradeItemHandler upgrades = (UpgradeItemHandler) new UpgradeItemHandler(4, UpgradeItem.Type.RANGE)
+        .addListener(new NetworkNodeInventoryListener(this))
+        .addListener((handler, slot, reading) -> {
+            if (network != null && network.getNetworkItemManager() instanceof NetworkItemManager) {
+                ((NetworkItemManager) network.getNetworkItemManager()).invalidateTransmitters();
+            }
+        });
 
     public WirelessTransmitterNetworkNode(World world, BlockPos pos) {
         super(world, pos);
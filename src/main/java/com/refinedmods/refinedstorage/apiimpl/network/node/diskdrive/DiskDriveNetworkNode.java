@@ -11,6 +11,7 @@ import com.refinedmods.refinedstorage.api.storage.disk.IStorageDiskContainerCont
 import com.refinedmods.refinedstorage.api.util.IComparer;
 import com.refinedmods.refinedstorage.apiimpl.network.node.ConnectivityStateChangeCause;
 import com.refinedmods.refinedstorage.apiimpl.network.node.DiskState;
+import com.refinedmods.refinedstorage.apiimpl.network.node.VisualUpdateBatcher;
 import com.refinedmods.refinedstorage.apiimpl.network.node.NetworkNode;
 import com.refinedmods.refinedstorage.apiimpl.storage.cache.FluidStorageCache;
 import com.refinedmods.refinedstorage.apiimpl.storage.cache.ItemStorageCache;
@@ -47,13 +48,8 @@ public class DiskDriveNetworkNode extends NetworkNode implements IStorageProvide
     private static final String NBT_TYPE = "Type";
     private static final String NBT_FLUID_FILTERS = "FluidFilters";
 
-    private static final int DISK_STATE_UPDATE_THROTTLE = 30;
-
     private static final Logger LOGGER = LogManager.getLogger(DiskDriveNetworkNode.class);
 
-    private int ticksSinceBlockUpdateRequested;
-    private boolean blockUpdateRequested;
-
     private final BaseItemHandler itemFilters = new BaseItemHandler(9).addListener(new NetworkNodeInventoryListener(this));
     private final FluidInventory fluidFilters = new FluidInventory(9).addListener(new NetworkNodeFluidInventoryListener(this));
 
@@ -122,26 +118,8 @@ public class DiskDriveNetworkNode extends NetworkNode implements IStorageProvide
         return usage;
     }
 
-    @Override
-    public void update() {
-        super.update();
-
-        if (blockUpdateRequested) {
-            ++ticksSinceBlockUpdateRequested;
-
-            if (ticksSinceBlockUpdateRequested > DISK_STATE_UPDATE_THROTTLE) {
-                WorldUtils.updateBlock(world, pos);
-
-                this.blockUpdateRequested = false;
-                this.ticksSinceBlockUpdateRequested = 0;
-            }
-        } else {
-            this.ticksSinceBlockUpdateRequested = 0;
-        }
-    }
-
-    void requestBlockUpdate() {
-        this.blockUpdateRequested = true;
+    void requestVisualUpdate() {
+        VisualUpdateBatcher.requestUpdate(world, pos);
     }
 
     @Override
@@ -32,7 +32,7 @@ public class FluidDriveWrapperStorageDisk implements IStorageDisk<FluidStack> {
                 if (this.lastState != currentState) {
                     this.lastState = currentState;
 
-                    diskDrive.requestBlockUpdate();
+                    diskDrive.requestVisualUpdate();
                 }
             },
             diskDrive
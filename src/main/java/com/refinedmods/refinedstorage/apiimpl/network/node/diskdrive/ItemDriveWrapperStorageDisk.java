@@ -32,7 +32,7 @@ public class ItemDriveWrapperStorageDisk implements IStorageDisk<ItemStack> {
                 if (this.lastState != currentState) {
                     this.lastState = currentState;
 
-                    diskDrive.requestBlockUpdate();
+                    diskDrive.requestVisualUpdate();
                 }
             },
             diskDrive
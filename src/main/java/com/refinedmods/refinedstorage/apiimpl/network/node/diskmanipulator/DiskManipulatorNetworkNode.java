@@ -36,8 +36,8 @@ import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.wrapper.CombinedInvWrapper;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class DiskManipulatorNetworkNode extends NetworkNode implements IComparable, IWhitelistBlacklist, IType, IStorageDiskContainerContext {
     public static final ResourceLocation ID = new ResourceLocation(RS.ID, "disk_manipulator");
@@ -51,6 +51,8 @@ public class DiskManipulatorNetworkNode extends NetworkNode implements IComparab
     private static final String NBT_IO_MODE = "IOMode";
     private static final String NBT_FLUID_FILTERS = "FluidFilters";
 
+    private static final int MAX_ITEM_TYPES_PER_UPDATE = 16;
+
     private int compare = IComparer.COMPARE_NBT;
     private int mode = IWhitelistBlacklist.BLACKLIST;
     private int type = IType.ITEMS;
@@ -59,6 +61,14 @@ public class DiskManipulatorNetworkNode extends NetworkNode implements IComparab
     private final IStorageDisk<ItemStack>[] itemDisks = new IStorageDisk[6];
     private final IStorageDisk<FluidStack>[] fluidDisks = new IStorageDisk[6];
 
+    // In insert mode, the stacks of an item disk are moved in passes over a snapshot of its stacks, continuing where the last update stopped.
+    // The disk is done once a whole pass couldn't move anything.
+    private IStorageDisk<ItemStack> itemPassDisk;
+    private List<ItemStack> itemPass = Collections.emptyList();
+    private int itemPassPosition;
+    private boolean itemPassMoved;
+    private boolean itemPassDone;
+
     private final UpgradeItemHandler upgrades = (UpgradeItemHandler) new UpgradeItemHandler(4, UpgradeItem.Type.SPEED, UpgradeItem.Type.STACK) {
         @Override
         public int getStackInteractCount() {
@@ -173,27 +183,53 @@ public class DiskManipulatorNetworkNode extends NetworkNode implements IComparab
     }
 
     private void insertItemIntoNetwork(IStorageDisk<ItemStack> storage) {
-        List<ItemStack> stacks = new ArrayList<>(storage.getStacks());
+        if (itemPassDisk != storage || itemPassPosition >= itemPass.size()) {
+            if (itemPassDisk == storage && !itemPassMoved) {
+                itemPassDone = true;
+                return;
+            }
 
-        for (int i = 0; i < stacks.size(); ++i) {
-            ItemStack stack = stacks.get(i);
+            itemPassDisk = storage;
+            itemPass = new ArrayList<>(storage.getStacks());
+            itemPassPosition = 0;
+            itemPassMoved = false;
+            itemPassDone = false;
+        }
+
+        int toMove = upgrades.getStackInteractCount();
+        int types = 0;
 
-            ItemStack extracted = storage.extract(stack, upgrades.getStackInteractCount(), compare, Action.PERFORM);
+        while (toMove > 0 && types < MAX_ITEM_TYPES_PER_UPDATE && itemPassPosition < itemPass.size()) {
+            ItemStack stack = itemPass.get(itemPassPosition);
+
+            ItemStack extracted = storage.extract(stack, toMove, compare, Action.PERFORM);
             if (extracted.isEmpty()) {
+                itemPassPosition++;
                 continue;
             }
 
+            types++;
+
             ItemStack remainder = network.insertItem(extracted, extracted.getCount(), Action.PERFORM);
-            if (remainder.isEmpty()) {
-                break;
+
+            int inserted = extracted.getCount() - remainder.getCount();
+            if (inserted > 0) {
+                itemPassMoved = true;
+                toMove -= inserted;
             }
 
-            // We need to check if the stack was inserted
-            storage.insert(((extracted == remainder) ? remainder.copy() : remainder), remainder.getCount(), Action.PERFORM);
+            if (!remainder.isEmpty()) {
+                // We need to check if the stack was inserted
+                storage.insert(((extracted == remainder) ? remainder.copy() : remainder), remainder.getCount(), Action.PERFORM);
+            }
+
+            // Stay on this stack only if the disk might still have more of it and the network took everything.
+            if (!remainder.isEmpty() || toMove > 0) {
+                itemPassPosition++;
+            }
         }
     }
 
-    // Iterate through disk stacks, if none can be inserted, return that it is done processing and can be output.
     private boolean isItemDiskDone(IStorageDisk<ItemStack> storage, int slot) {
         if (ioMode == IO_MODE_INSERT && storage.getStored() == 0) {
             moveDriveToOutput(slot);
@@ -210,64 +246,66 @@ public class DiskManipulatorNetworkNode extends NetworkNode implements IComparab
             }
         }
 
-        List<ItemStack> stacks = new ArrayList<>(storage.getStacks());
+        if (itemPassDisk == storage && itemPassDone) {
+            // If the disk can't be moved to the output, the next update starts a new pass.
+            itemPassDisk = null;
+            itemPass = Collections.emptyList();
 
-        for (int i = 0; i < stacks.size(); ++i) {
-            ItemStack stack = stacks.get(i);
-
-            ItemStack extracted = storage.extract(stack, upgrades.getStackInteractCount(), compare, Action.SIMULATE);
-            if (extracted.isEmpty()) {
-                continue;
-            }
-
-            ItemStack remainder = network.insertItem(extracted, extracted.getCount(), Action.SIMULATE);
-            if (remainder.isEmpty()) { // An item could be inserted (no remainders when trying to). This disk isn't done.
-                return false;
-            }
+            moveDriveToOutput(slot);
+            return true;
         }
 
-        return true;
+        return false;
     }
 
     private void extractItemFromNetwork(IStorageDisk<ItemStack> storage, int slot) {
-        ItemStack extracted = ItemStack.EMPTY;
-        int i = 0;
+        int toMove = upgrades.getStackInteractCount();
 
-        if (itemFilters.isEmpty()) {
-            ItemStack toExtract = null;
-            List<ItemStack> networkItems = network.getItemStorageCache().getList().getStacks().stream().map(StackListEntry::getStack).collect(Collectors.toList());
+        for (int types = 0; toMove > 0 && types < MAX_ITEM_TYPES_PER_UPDATE; ++types) {
+            ItemStack extracted = extractItemFromNetwork(toMove);
 
-            int j = 0;
+            if (extracted.isEmpty()) {
+                if (types == 0) {
+                    moveDriveToOutput(slot);
+                }
 
-            while ((toExtract == null || toExtract.isEmpty()) && j < networkItems.size()) {
-                toExtract = networkItems.get(j++);
+                return;
             }
 
-            if (toExtract != null) {
-                extracted = network.extractItem(toExtract, upgrades.getStackInteractCount(), compare, Action.PERFORM);
+            ItemStack remainder = storage.insert(extracted, extracted.getCount(), Action.PERFORM);
+
+            network.insertItem(remainder, remainder.getCount(), Action.PERFORM);
+
+            if (!remainder.isEmpty()) {
+                return;
             }
-        } else {
-            while (itemFilters.getSlots() > i && extracted.isEmpty()) {
-                ItemStack filterStack = ItemStack.EMPTY;
 
-                while (itemFilters.getSlots() > i && filterStack.isEmpty()) {
-                    filterStack = itemFilters.getStackInSlot(i++);
+            toMove -= extracted.getCount();
+        }
+    }
+
+    private ItemStack extractItemFromNetwork(int size) {
+        if (itemFilters.isEmpty()) {
+            for (StackListEntry<ItemStack> entry : network.getItemStorageCache().getList().getStacks()) {
+                if (!entry.getStack().isEmpty()) {
+                    return network.extractItem(entry.getStack(), size, compare, Action.PERFORM);
                 }
+            }
+        } else {
+            for (int i = 0; i < itemFilters.getSlots(); ++i) {
+                ItemStack filterStack = itemFilters.getStackInSlot(i);
 
                 if (!filterStack.isEmpty()) {
-                    extracted = network.extractItem(filterStack, upgrades.getStackInteractCount(), compare, Action.PERFORM);
+                    ItemStack extracted = network.extractItem(filterStack, size, compare, Action.PERFORM);
+
+                    if (!extracted.isEmpty()) {
+                        return extracted;
+                    }
                 }
             }
         }
 
-        if (extracted.isEmpty()) {
-            moveDriveToOutput(slot);
-            return;
-        }
-
-        ItemStack remainder = storage.insert(extracted, extracted.getCount(), Action.PERFORM);
-
-        network.insertItem(remainder, remainder.getCount(), Action.PERFORM);
+        return ItemStack.EMPTY;
     }
 
     private void insertFluidIntoNetwork(IStorageDisk<FluidStack> storage, int slot) {
@@ -332,17 +370,11 @@ public class DiskManipulatorNetworkNode extends NetworkNode implements IComparab
         int i = 0;
 
         if (fluidFilters.isEmpty()) {
-            FluidStack toExtract = null;
-            List<FluidStack> networkFluids = network.getFluidStorageCache().getList().getStacks().stream().map(StackListEntry::getStack).collect(Collectors.toList());
-
-            int j = 0;
-
-            while ((toExtract == null || toExtract.getAmount() == 0) && j < networkFluids.size()) {
-                toExtract = networkFluids.get(j++);
-            }
-
-            if (toExtract != null) {
-                extracted = network.extractFluid(toExtract, upgrades.getStackInteractCount(), compare, Action.PERFORM);
+            for (StackListEntry<FluidStack> entry : network.getFluidStorageCache().getList().getStacks()) {
+                if (entry.getStack().getAmount() != 0) {
+                    extracted = network.extractFluid(entry.getStack(), upgrades.getStackInteractCount(), compare, Action.PERFORM);
+                    break;
+                }
             }
         } else {
             while (fluidFilters.getSlots() > i && extracted.isEmpty()) {
@@ -454,6 +486,8 @@ public class DiskManipulatorNetworkNode extends NetworkNode implements IComparab
 
     public void setIoMode(int ioMode) {
         this.ioMode = ioMode;
+        this.itemPassDisk = null;
+        this.itemPass = Collections.emptyList();
     }
 
     public IItemHandler getInputDisks() {
@@ -6,8 +6,8 @@ import com.refinedmods.refinedstorage.api.storage.disk.IStorageDiskContainerCont
 import com.refinedmods.refinedstorage.api.storage.disk.IStorageDiskListener;
 import com.refinedmods.refinedstorage.api.util.Action;
 import com.refinedmods.refinedstorage.apiimpl.network.node.DiskState;
+import com.refinedmods.refinedstorage.apiimpl.network.node.VisualUpdateBatcher;
 import com.refinedmods.refinedstorage.tile.config.IWhitelistBlacklist;
-import com.refinedmods.refinedstorage.util.WorldUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.ResourceLocation;
@@ -33,7 +33,7 @@ public class StorageDiskItemManipulatorWrapper implements IStorageDisk<ItemStack
                 if (lastState != currentState) {
                     lastState = currentState;
 
-                    WorldUtils.updateBlock(diskManipulator.getWorld(), diskManipulator.getPos());
+                    VisualUpdateBatcher.requestUpdate(diskManipulator.getWorld(), diskManipulator.getPos());
                 }
             },
             diskManipulator
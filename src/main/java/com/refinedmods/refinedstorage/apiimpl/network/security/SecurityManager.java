@@ -14,37 +14,84 @@ import java.util.Map;
 import java.util.UUID;
 
 public class SecurityManager implements ISecurityManager {
+    private static final int ALL_PERMISSIONS = (1 << Permission.values().length) - 1;
+
+    // Incremented when the op list may have changed, which invalidates the permissions of every security manager.
+    private static int opsVersion;
+
     private final INetwork network;
     private final Map<UUID, ISecurityCard> cards = new HashMap<>();
     private ISecurityCard globalCard;
+    private boolean cardsValid;
+
+    // The permissions of every player that was checked, as a bitset indexed by Permission#getId.
+    private final Map<UUID, Integer> permissions = new HashMap<>();
+    private int permissionsOpsVersion;
 
     public SecurityManager(INetwork network) {
         this.network = network;
     }
 
+    public static void invalidateOps() {
+        opsVersion++;
+    }
+
     @Override
     public boolean hasPermission(Permission permission, PlayerEntity player) {
+        if (permissionsOpsVersion != opsVersion) {
+            permissions.clear();
+            permissionsOpsVersion = opsVersion;
+        }
+
+        UUID uuid = player.getGameProfile().getId();
+
+        Integer playerPermissions = permissions.get(uuid);
+        if (playerPermissions == null) {
+            playerPermissions = getPermissions(player);
+            permissions.put(uuid, playerPermissions);
+        }
+
+        return (playerPermissions & (1 << permission.getId())) != 0;
+    }
+
+    private int getPermissions(PlayerEntity player) {
         OpList ops = player.getServer().getPlayerList().getOppedPlayers();
 
         if (ops.getEntry(player.getGameProfile()) != null) {
-            return true;
+            return ALL_PERMISSIONS;
         }
 
-        UUID uuid = player.getGameProfile().getId();
+        if (!cardsValid) {
+            readCards();
+        }
 
-        if (!cards.containsKey(uuid)) {
-            if (globalCard != null) {
-                return globalCard.hasPermission(permission);
-            }
+        ISecurityCard card = cards.get(player.getGameProfile().getId());
+        if (card == null) {
+            card = globalCard;
+        }
+
+        if (card == null) {
+            return ALL_PERMISSIONS;
+        }
+
+        int cardPermissions = 0;
 
-            return true;
+        for (Permission permission : Permission.values()) {
+            if (card.hasPermission(permission)) {
+                cardPermissions |= 1 << permission.getId();
+            }
         }
 
-        return cards.get(uuid).hasPermission(permission);
+        return cardPermissions;
     }
 
     @Override
     public void invalidate() {
+        this.cardsValid = false;
+        this.permissions.clear();
+    }
+
+    private void readCards() {
         this.cards.clear();
         this.globalCard = null;
 
@@ -65,5 +112,7 @@ public class SecurityManager implements ISecurityManager {
                 }
             }
         }
+
+        this.cardsValid = true;
     }
 }
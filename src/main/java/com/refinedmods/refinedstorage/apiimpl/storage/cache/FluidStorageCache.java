@@ -122,6 +122,13 @@ public class FluidStorageCache implements IStorageCache<FluidStack> {
         listeners.remove(listener);
     }
 
+    @Override
+    public void flushCraftables(List<StackListResult<FluidStack>> deltas) {
+        if (!deltas.isEmpty()) {
+            listeners.forEach(l -> l.onCraftablesChanged(deltas));
+        }
+    }
+
     @Override
     public void reAttachListeners() {
         listeners.forEach(IStorageCacheListener::onAttached);
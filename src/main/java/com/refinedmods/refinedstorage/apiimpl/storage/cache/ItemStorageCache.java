@@ -122,6 +122,13 @@ public class ItemStorageCache implements IStorageCache<ItemStack> {
         listeners.remove(listener);
     }
 
+    @Override
+    public void flushCraftables(List<StackListResult<ItemStack>> deltas) {
+        if (!deltas.isEmpty()) {
+            listeners.forEach(l -> l.onCraftablesChanged(deltas));
+        }
+    }
+
     @Override
     public void reAttachListeners() {
         listeners.forEach(IStorageCacheListener::onAttached);
@@ -45,4 +45,9 @@ public class FluidGridStorageCacheListener implements IStorageCacheListener<Flui
     public void onChangedBulk(List<StackListResult<FluidStack>> deltas) {
         RS.NETWORK_HANDLER.sendTo(player, new GridFluidDeltaMessage(network, deltas));
     }
+
+    @Override
+    public void onCraftablesChanged(List<StackListResult<FluidStack>> deltas) {
+        RS.NETWORK_HANDLER.sendTo(player, new GridFluidDeltaMessage(network, deltas, true));
+    }
 }
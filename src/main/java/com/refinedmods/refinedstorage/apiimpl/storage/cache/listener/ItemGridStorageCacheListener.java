@@ -45,4 +45,9 @@ public class ItemGridStorageCacheListener implements IStorageCacheListener<ItemS
     public void onChangedBulk(List<StackListResult<ItemStack>> deltas) {
         RS.NETWORK_HANDLER.sendTo(player, new GridItemDeltaMessage(network, deltas));
     }
+
+    @Override
+    public void onCraftablesChanged(List<StackListResult<ItemStack>> deltas) {
+        RS.NETWORK_HANDLER.sendTo(player, new GridItemDeltaMessage(network, deltas, true));
+    }
 }
@@ -2,6 +2,7 @@ package com.refinedmods.refinedstorage.apiimpl.storage.cache.listener;
 
 import com.refinedmods.refinedstorage.RS;
 import com.refinedmods.refinedstorage.api.storage.cache.IStorageCacheListener;
+import com.refinedmods.refinedstorage.api.util.StackListEntry;
 import com.refinedmods.refinedstorage.api.util.StackListResult;
 import com.refinedmods.refinedstorage.network.grid.PortableGridFluidDeltaMessage;
 import com.refinedmods.refinedstorage.network.grid.PortableGridFluidUpdateMessage;
@@ -23,7 +24,17 @@ public class PortableFluidGridStorageCacheListener implements IStorageCacheListe
 
     @Override
     public void onAttached() {
-        RS.NETWORK_HANDLER.sendTo(player, new PortableGridFluidUpdateMessage(portableGrid));
+        List<StackListEntry<FluidStack>> entries = new ArrayList<>(portableGrid.getFluidCache().getList().getStacks());
+
+        int sent = 0;
+
+        do {
+            List<StackListEntry<FluidStack>> chunk = entries.subList(sent, Math.min(sent + PortableGridFluidUpdateMessage.MAX_STACKS, entries.size()));
+
+            RS.NETWORK_HANDLER.sendTo(player, new PortableGridFluidUpdateMessage(portableGrid, chunk, sent == 0, sent + chunk.size() == entries.size()));
+
+            sent += chunk.size();
+        } while (sent < entries.size());
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.refinedmods.refinedstorage.apiimpl.storage.cache.listener;
 
 import com.refinedmods.refinedstorage.RS;
 import com.refinedmods.refinedstorage.api.storage.cache.IStorageCacheListener;
+import com.refinedmods.refinedstorage.api.util.StackListEntry;
 import com.refinedmods.refinedstorage.api.util.StackListResult;
 import com.refinedmods.refinedstorage.network.grid.PortableGridItemDeltaMessage;
 import com.refinedmods.refinedstorage.network.grid.PortableGridItemUpdateMessage;
@@ -23,7 +24,17 @@ public class PortableItemGridStorageCacheListener implements IStorageCacheListen
 
     @Override
     public void onAttached() {
-        RS.NETWORK_HANDLER.sendTo(player, new PortableGridItemUpdateMessage(portableGrid));
+        List<StackListEntry<ItemStack>> entries = new ArrayList<>(portableGrid.getItemCache().getList().getStacks());
+
+        int sent = 0;
+
+        do {
+            List<StackListEntry<ItemStack>> chunk = entries.subList(sent, Math.min(sent + PortableGridItemUpdateMessage.MAX_STACKS, entries.size()));
+
+            RS.NETWORK_HANDLER.sendTo(player, new PortableGridItemUpdateMessage(portableGrid, chunk, sent == 0, sent + chunk.size() == entries.size()));
+
+            sent += chunk.size();
+        } while (sent < entries.size());
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.refinedmods.refinedstorage.apiimpl.storage.disk;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
+import com.refinedmods.refinedstorage.RS;
 import com.refinedmods.refinedstorage.api.storage.AccessType;
 import com.refinedmods.refinedstorage.api.storage.disk.IStorageDisk;
 import com.refinedmods.refinedstorage.api.storage.disk.IStorageDiskContainerContext;
@@ -9,6 +10,7 @@ import com.refinedmods.refinedstorage.api.storage.disk.IStorageDiskListener;
 import com.refinedmods.refinedstorage.api.util.Action;
 import com.refinedmods.refinedstorage.apiimpl.API;
 import com.refinedmods.refinedstorage.apiimpl.storage.disk.factory.ItemStorageDiskFactory;
+import com.refinedmods.refinedstorage.util.NbtInterner;
 import com.refinedmods.refinedstorage.util.StackUtils;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -27,6 +29,7 @@ public class ItemStorageDisk implements IStorageDisk<ItemStack> {
     public static final String NBT_VERSION = "Version";
     public static final String NBT_CAPACITY = "Capacity";
     public static final String NBT_ITEMS = "Items";
+    public static final String NBT_ITEMS_COMPACT = "CompactItems";
     public static final String NBT_OWNER = "Owner";
     public static final int VERSION = 1;
 
@@ -51,14 +54,20 @@ public class ItemStorageDisk implements IStorageDisk<ItemStack> {
     public CompoundNBT writeToNbt() {
         CompoundNBT tag = new CompoundNBT();
 
-        ListNBT list = new ListNBT();
+        tag.putInt(NBT_VERSION, VERSION);
+
+        if (RS.SERVER_CONFIG.getStorageDisk().getCompactFormat()) {
+            tag.putByteArray(NBT_ITEMS_COMPACT, StackUtils.serializeStacksToBytes(stacks.values()));
+        } else {
+            ListNBT list = new ListNBT();
 
-        for (ItemStack stack : stacks.values()) {
-            list.add(StackUtils.serializeStackToNbt(stack));
+            for (ItemStack stack : stacks.values()) {
+                list.add(StackUtils.serializeStackToNbt(stack));
+            }
+
+            tag.put(NBT_ITEMS, list);
         }
 
-        tag.putInt(NBT_VERSION, VERSION);
-        tag.put(NBT_ITEMS, list);
         tag.putInt(NBT_CAPACITY, capacity);
 
         if (owner != null) {
@@ -122,7 +131,7 @@ public class ItemStorageDisk implements IStorageDisk<ItemStack> {
             }
 
             if (action == Action.PERFORM) {
-                stacks.put(stack.getItem(), ItemHandlerHelper.copyStackWithSize(stack, remainingSpace));
+                stacks.put(stack.getItem(), NbtInterner.intern(ItemHandlerHelper.copyStackWithSize(stack, remainingSpace)));
                 itemCount += remainingSpace;
                 onChanged();
             }
@@ -130,7 +139,7 @@ public class ItemStorageDisk implements IStorageDisk<ItemStack> {
             return ItemHandlerHelper.copyStackWithSize(stack, size - remainingSpace);
         } else {
             if (action == Action.PERFORM) {
-                stacks.put(stack.getItem(), ItemHandlerHelper.copyStackWithSize(stack, size));
+                stacks.put(stack.getItem(), NbtInterner.intern(ItemHandlerHelper.copyStackWithSize(stack, size)));
                 itemCount += size;
 
                 onChanged();
@@ -7,6 +7,7 @@ import com.refinedmods.refinedstorage.api.storage.disk.IStorageDiskFactory;
 import com.refinedmods.refinedstorage.apiimpl.storage.ItemStorageType;
 import com.refinedmods.refinedstorage.apiimpl.storage.disk.ItemStorageDisk;
 import com.refinedmods.refinedstorage.item.StorageDiskItem;
+import com.refinedmods.refinedstorage.util.NbtInterner;
 import com.refinedmods.refinedstorage.util.StackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
@@ -29,13 +30,21 @@ public class ItemStorageDiskFactory implements IStorageDiskFactory<ItemStack> {
             tag.contains(ItemStorageDisk.NBT_OWNER) ? tag.getUniqueId(ItemStorageDisk.NBT_OWNER) : null
         );
 
-        ListNBT list = tag.getList(ItemStorageDisk.NBT_ITEMS, Constants.NBT.TAG_COMPOUND);
+        if (tag.contains(ItemStorageDisk.NBT_ITEMS_COMPACT)) {
+            for (ItemStack stack : StackUtils.deserializeStacksFromBytes(tag.getByteArray(ItemStorageDisk.NBT_ITEMS_COMPACT))) {
+                if (!stack.isEmpty()) {
+                    disk.getRawStacks().put(stack.getItem(), NbtInterner.intern(stack));
+                }
+            }
+        } else {
+            ListNBT list = tag.getList(ItemStorageDisk.NBT_ITEMS, Constants.NBT.TAG_COMPOUND);
 
-        for (int i = 0; i < list.size(); ++i) {
-            ItemStack stack = StackUtils.deserializeStackFromNbt(list.getCompound(i));
+            for (int i = 0; i < list.size(); ++i) {
+                ItemStack stack = StackUtils.deserializeStackFromNbt(list.getCompound(i));
 
-            if (!stack.isEmpty()) {
-                disk.getRawStacks().put(stack.getItem(), stack);
+                if (!stack.isEmpty()) {
+                    disk.getRawStacks().put(stack.getItem(), NbtInterner.intern(stack));
+                }
             }
         }
 
@@ -2,6 +2,7 @@ package com.refinedmods.refinedstorage.apiimpl.storage.externalstorage;
 
 import com.refinedmods.refinedstorage.api.network.INetwork;
 import com.refinedmods.refinedstorage.apiimpl.API;
+import com.refinedmods.refinedstorage.util.NbtInterner;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 
@@ -21,7 +22,7 @@ public class ItemExternalStorageCache {
             cache = new ArrayList<>();
 
             for (int i = 0; i < handler.getSlots(); ++i) {
-                cache.add(handler.getStackInSlot(i).copy());
+                cache.add(NbtInterner.intern(handler.getStackInSlot(i).copy()));
             }
 
             return;
@@ -34,7 +35,7 @@ public class ItemExternalStorageCache {
                 if (!actual.isEmpty()) {
                     network.getItemStorageCache().add(actual, actual.getCount(), false, true);
 
-                    cache.add(actual.copy());
+                    cache.add(NbtInterner.intern(actual.copy()));
                 }
 
                 continue;
@@ -49,12 +50,12 @@ public class ItemExternalStorageCache {
             } else if (cached.isEmpty() && !actual.isEmpty()) { // ADDED
                 network.getItemStorageCache().add(actual, actual.getCount(), false, true);
 
-                cache.set(i, actual.copy());
+                cache.set(i, NbtInterner.intern(actual.copy()));
             } else if (!API.instance().getComparer().isEqualNoQuantity(cached, actual)) { // CHANGED
                 network.getItemStorageCache().remove(cached, cached.getCount(), true);
                 network.getItemStorageCache().add(actual, actual.getCount(), false, true);
 
-                cache.set(i, actual.copy());
+                cache.set(i, NbtInterner.intern(actual.copy()));
             } else if (cached.getCount() != actual.getCount()) { // COUNT_CHANGED
                 int delta = actual.getCount() - cached.getCount();
 
@@ -3,6 +3,7 @@ package com.refinedmods.refinedstorage.apiimpl.storage.tracker;
 import com.refinedmods.refinedstorage.api.storage.tracker.IStorageTracker;
 import com.refinedmods.refinedstorage.api.storage.tracker.StorageTrackerEntry;
 import com.refinedmods.refinedstorage.util.ItemStackKey;
+import com.refinedmods.refinedstorage.util.NbtInterner;
 import com.refinedmods.refinedstorage.util.StackUtils;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -26,7 +27,7 @@ public class ItemStorageTracker implements IStorageTracker<ItemStack> {
 
     @Override
     public void changed(PlayerEntity player, ItemStack stack) {
-        changes.put(new ItemStackKey(stack), new StorageTrackerEntry(System.currentTimeMillis(), player.getName().getString()));
+        changes.put(ItemStackKey.copyOf(stack), new StorageTrackerEntry(System.currentTimeMillis(), player.getName().getString()));
 
         listener.run();
     }
@@ -43,7 +44,7 @@ public class ItemStorageTracker implements IStorageTracker<ItemStack> {
             ItemStack stack = StackUtils.deserializeStackFromNbt(tag.getCompound(NBT_STACK));
 
             if (!stack.isEmpty()) {
-                changes.put(new ItemStackKey(stack), new StorageTrackerEntry(tag.getLong(NBT_TIME), tag.getString(NBT_NAME)));
+                changes.put(new ItemStackKey(NbtInterner.intern(stack)), new StorageTrackerEntry(tag.getLong(NBT_TIME), tag.getString(NBT_NAME)));
             }
         }
     }
@@ -5,6 +5,7 @@ import com.refinedmods.refinedstorage.api.util.IStackList;
 import com.refinedmods.refinedstorage.api.util.StackListEntry;
 import com.refinedmods.refinedstorage.api.util.StackListResult;
 import com.refinedmods.refinedstorage.apiimpl.API;
+import com.refinedmods.refinedstorage.util.NbtInterner;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.ItemHandlerHelper;
@@ -37,7 +38,7 @@ public class ItemStackList implements IStackList<ItemStack> {
             }
         }
 
-        StackListEntry<ItemStack> newEntry = new StackListEntry<>(ItemHandlerHelper.copyStackWithSize(stack, size));
+        StackListEntry<ItemStack> newEntry = new StackListEntry<>(NbtInterner.intern(ItemHandlerHelper.copyStackWithSize(stack, size)));
 
         stacks.put(stack.getItem(), newEntry);
         index.put(newEntry.getId(), newEntry.getStack());
@@ -8,11 +8,32 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
-
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public abstract class RSWorldSavedData extends WorldSavedData {
-    private final Logger LOGGER = LogManager.getLogger(RSWorldSavedData.class);
+    private static final Logger LOGGER = LogManager.getLogger(RSWorldSavedData.class);
+
+    // A single thread, so that files are always written in the order in which they were saved.
+    private static final ExecutorService IO_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "Refined Storage IO");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The latest data per file that hasn't been written yet.
+    // Saving a file again before its previous data was written replaces that data, instead of queueing another write.
+    private static final Map<File, CompoundNBT> PENDING = new HashMap<>();
+    private static Future<?> lastWrite;
 
     public RSWorldSavedData(String name) {
         super(name);
@@ -28,28 +49,64 @@ public abstract class RSWorldSavedData extends WorldSavedData {
     public void save(File fileIn) {
         //@Volatile Mostly Copied from WorldSavedData
         if (this.isDirty()) {
-            File tempFile = fileIn.toPath().getParent().resolve(fileIn.getName() + ".temp").toFile();
-
             CompoundNBT compoundnbt = new CompoundNBT();
             compoundnbt.put("data", this.write(new CompoundNBT()));
             compoundnbt.putInt("DataVersion", SharedConstants.getVersion().getWorldVersion());
 
-            try {
-                CompressedStreamTools.writeCompressed(compoundnbt, tempFile);
-                if (fileIn.exists()) {
-                    if (!fileIn.delete()) {
-                        LOGGER.error("Failed To delete " + fileIn.getName());
-                    }
-                }
-                if (!tempFile.renameTo(fileIn)) {
-                    LOGGER.error("Failed to rename " + tempFile.getName());
-                }
+            // Written tags can still share data with live objects, so the IO thread gets a copy.
+            CompoundNBT snapshot = compoundnbt.copy();
 
-            } catch (IOException ioexception) {
-                LOGGER.error("Could not save data {}", this, ioexception);
+            synchronized (PENDING) {
+                if (PENDING.put(fileIn, snapshot) == null) {
+                    lastWrite = IO_EXECUTOR.submit(() -> write(fileIn));
+                }
             }
 
             this.setDirty(false);
         }
     }
+
+    private static void write(File fileIn) {
+        CompoundNBT compoundnbt;
+        synchronized (PENDING) {
+            compoundnbt = PENDING.remove(fileIn);
+        }
+
+        File tempFile = fileIn.toPath().getParent().resolve(fileIn.getName() + ".temp").toFile();
+
+        try {
+            try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
+                CompressedStreamTools.writeCompressed(compoundnbt, outputStream);
+
+                outputStream.getFD().sync();
+            }
+
+            try {
+                Files.move(tempFile.toPath(), fileIn.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), fileIn.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ioexception) {
+            LOGGER.error("Could not save data {}", fileIn.getName(), ioexception);
+        }
+    }
+
+    /**
+     * Blocks until all saved data has been written to disk.
+     * Has to be called before the saved data can be read again, for example when the server stops.
+     */
+    public static void waitForPendingSaves() {
+        Future<?> write;
+        synchronized (PENDING) {
+            write = lastWrite;
+        }
+
+        if (write != null) {
+            try {
+                write.get(1, TimeUnit.MINUTES);
+            } catch (Exception e) {
+                LOGGER.error("Could not wait for saved data to be written", e);
+            }
+        }
+    }
 }
@@ -36,6 +36,7 @@ public class ServerConfig {
     private final CraftingMonitor craftingMonitor;
     private final WirelessCraftingMonitor wirelessCraftingMonitor;
     private final Autocrafting autocrafting;
+    private final StorageDisk storageDisk;
 
     public ServerConfig() {
         upgrades = new Upgrades();
@@ -68,6 +69,7 @@ public class ServerConfig {
         craftingMonitor = new CraftingMonitor();
         wirelessCraftingMonitor = new WirelessCraftingMonitor();
         autocrafting = new Autocrafting();
+        storageDisk = new StorageDisk();
 
         spec = builder.build();
     }
@@ -196,6 +198,10 @@ public class ServerConfig {
         return autocrafting;
     }
 
+    public StorageDisk getStorageDisk() {
+        return storageDisk;
+    }
+
     public class Controller {
         private final ForgeConfigSpec.BooleanValue useEnergy;
         private final ForgeConfigSpec.IntValue capacity;
@@ -920,11 +926,13 @@ public class ServerConfig {
 
     public class Autocrafting {
         private final ForgeConfigSpec.IntValue calculationTimeoutMs;
+        private final ForgeConfigSpec.BooleanValue parallelCalculation;
 
         public Autocrafting() {
             builder.push("autocrafting");
 
             calculationTimeoutMs = builder.comment("The autocrafting calculation timeout in milliseconds, crafting tasks taking longer than this to calculate are cancelled to avoid server strain").defineInRange("calculationTimeoutMs", 5000, 5000, Integer.MAX_VALUE);
+            parallelCalculation = builder.comment("Whether independent parts of an autocrafting calculation are calculated on multiple threads, this speeds up the calculation of wide recipe trees").define("parallelCalculation", false);
 
             builder.pop();
         }
@@ -932,5 +940,25 @@ public class ServerConfig {
         public int getCalculationTimeoutMs() {
             return calculationTimeoutMs.get();
         }
+
+        public boolean getParallelCalculation() {
+            return parallelCalculation.get();
+        }
+    }
+
+    public class StorageDisk {
+        private final ForgeConfigSpec.BooleanValue compactFormat;
+
+        public StorageDisk() {
+            builder.push("storageDisk");
+
+            compactFormat = builder.comment("Whether item storage disks are saved in a compact binary format that stores every item ID and NBT tag only once. Worlds saved in this format can't be loaded with older versions of Refined Storage").define("compactFormat", false);
+
+            builder.pop();
+        }
+
+        public boolean getCompactFormat() {
+            return compactFormat.get();
+        }
     }
 }
@@ -3,6 +3,7 @@ package com.refinedmods.refinedstorage.container;
 import com.refinedmods.refinedstorage.RS;
 import com.refinedmods.refinedstorage.api.autocrafting.ICraftingManager;
 import com.refinedmods.refinedstorage.api.autocrafting.craftingmonitor.ICraftingMonitorListener;
+import com.refinedmods.refinedstorage.api.autocrafting.task.ICraftingTask;
 import com.refinedmods.refinedstorage.network.craftingmonitor.CraftingMonitorUpdateMessage;
 import com.refinedmods.refinedstorage.tile.craftingmonitor.CraftingMonitorTile;
 import com.refinedmods.refinedstorage.tile.craftingmonitor.ICraftingMonitor;
@@ -13,11 +14,15 @@ import net.minecraft.inventory.container.Slot;
 import net.minecraft.item.ItemStack;
 
 import javax.annotation.Nullable;
+import java.util.*;
 
 public class CraftingMonitorContainer extends BaseContainer implements ICraftingMonitorListener {
     private final ICraftingMonitor craftingMonitor;
     private boolean addedListener;
 
+    // The state versions of the tasks as last sent to the client, in order.
+    private final Map<UUID, Integer> sentStateVersions = new LinkedHashMap<>();
+
     public CraftingMonitorContainer(ContainerType<CraftingMonitorContainer> type, ICraftingMonitor craftingMonitor, @Nullable CraftingMonitorTile craftingMonitorTile, PlayerEntity player, int windowId) {
         super(type, craftingMonitorTile, player, windowId);
 
@@ -94,11 +99,41 @@ public class CraftingMonitorContainer extends BaseContainer implements ICrafting
 
     @Override
     public void onAttached() {
-        onChanged();
+        sentStateVersions.clear();
+
+        sendTasks(true);
     }
 
     @Override
     public void onChanged() {
-        RS.NETWORK_HANDLER.sendTo((ServerPlayerEntity) getPlayer(), new CraftingMonitorUpdateMessage(craftingMonitor));
+        sendTasks(false);
+    }
+
+    private void sendTasks(boolean force) {
+        List<ICraftingTask> tasks = new ArrayList<>(craftingMonitor.getTasks());
+        Map<UUID, Integer> stateVersions = new LinkedHashMap<>();
+        Set<UUID> changedTaskIds = new HashSet<>();
+
+        for (ICraftingTask task : tasks) {
+            int stateVersion = task.getStateVersion();
+
+            stateVersions.put(task.getId(), stateVersion);
+
+            Integer sentStateVersion = sentStateVersions.get(task.getId());
+            if (!task.hasStateVersion() || sentStateVersion == null || sentStateVersion != stateVersion) {
+                changedTaskIds.add(task.getId());
+            }
+        }
+
+        boolean sameTasks = new ArrayList<>(stateVersions.keySet()).equals(new ArrayList<>(sentStateVersions.keySet()));
+
+        if (!force && changedTaskIds.isEmpty() && sameTasks) {
+            return;
+        }
+
+        sentStateVersions.clear();
+        sentStateVersions.putAll(stateVersions);
+
+        RS.NETWORK_HANDLER.sendTo((ServerPlayerEntity) getPlayer(), new CraftingMonitorUpdateMessage(tasks, changedTaskIds));
     }
 }
@@ -9,6 +9,7 @@ import com.refinedmods.refinedstorage.network.grid.GridTransferMessage;
 import com.refinedmods.refinedstorage.screen.grid.GridScreen;
 import com.refinedmods.refinedstorage.screen.grid.stack.IGridStack;
 import com.refinedmods.refinedstorage.screen.grid.stack.ItemGridStack;
+import com.refinedmods.refinedstorage.screen.grid.view.IGridView;
 import mezz.jei.api.constants.VanillaRecipeCategoryUid;
 import mezz.jei.api.gui.IRecipeLayout;
 import mezz.jei.api.gui.ingredient.IGuiIngredient;
@@ -22,8 +23,10 @@ import net.minecraftforge.fluids.FluidStack;
 
 import javax.annotation.Nonnull;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class GridRecipeTransferHandler implements IRecipeTransferHandler<GridContainer> {
@@ -100,17 +103,10 @@ public class GridRecipeTransferHandler implements IRecipeTransferHandler<GridCon
     private IngredientTracker createTracker(GridContainer container, IRecipeLayout recipeLayout, PlayerEntity player) {
         IngredientTracker tracker = new IngredientTracker(recipeLayout);
 
-        // Using IGridView#getStacks will return a *filtered* list of items in the view,
-        // which will cause problems - especially if the user uses JEI synchronised searching.
-        // Instead, we will use IGridView#getAllStacks which provides an unordered view of all GridStacks.
-        Collection<IGridStack> gridStacks = ((GridScreen) container.getScreenInfoProvider()).getView().getAllStacks();
-
         // Check grid
         if (container.getGrid().isGridActive()) {
-            for (IGridStack gridStack : gridStacks) {
-                if (gridStack instanceof ItemGridStack) {
-                    tracker.addAvailableStack(((ItemGridStack) gridStack).getStack(), gridStack);
-                }
+            for (IGridStack gridStack : getGridStacks(((GridScreen) container.getScreenInfoProvider()).getView(), tracker)) {
+                tracker.addAvailableStack(((ItemGridStack) gridStack).getStack(), gridStack);
             }
         }
 
@@ -136,6 +132,21 @@ public class GridRecipeTransferHandler implements IRecipeTransferHandler<GridCon
         return tracker;
     }
 
+    private Collection<IGridStack> getGridStacks(IGridView view, IngredientTracker tracker) {
+        // Using IGridView#getStacks will return a *filtered* list of items in the view,
+        // which will cause problems - especially if the user uses JEI synchronised searching.
+        // Instead, we will use IGridView#getItemStacks which looks up the unfiltered grid stacks of the possible items of every ingredient.
+        Set<IGridStack> gridStacks = new LinkedHashSet<>();
+
+        for (Ingredient ingredient : tracker.getIngredients()) {
+            for (ItemStack possibility : ingredient.getGuiIngredient().getAllIngredients()) {
+                gridStacks.addAll(view.getItemStacks(possibility.getItem()));
+            }
+        }
+
+        return gridStacks;
+    }
+
     public boolean hasTransferredRecently() {
         return System.currentTimeMillis() - lastTransferTimeMs <= TRANSFER_SCROLLBAR_DELAY_MS;
     }
@@ -29,14 +29,17 @@ import net.minecraftforge.fluids.FluidStack;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 public class PatternItem extends Item implements ICraftingPatternProvider {
-    private static final Map<ItemStackKey, ICraftingPattern> CACHE = new HashMap<>();
+    private static final int CACHE_SIZE = 16384;
+    private static final Map<ItemStackKey, ICraftingPattern> CACHE = Collections.synchronizedMap(new LinkedHashMap<ItemStackKey, ICraftingPattern>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ItemStackKey, ICraftingPattern> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    });
 
     private static final String NBT_VERSION = "Version";
     private static final String NBT_INPUT_SLOT = "Input_%d";
@@ -54,20 +57,23 @@ public class PatternItem extends Item implements ICraftingPatternProvider {
     }
 
     public static ICraftingPattern fromCache(World world, ItemStack stack) {
-        ICraftingPattern pattern = CACHE.computeIfAbsent(
-            new ItemStackKey(stack),
-            s -> CraftingPatternFactory.INSTANCE.create(world, null, s.getStack())
-        );
-
-        // A number that is not too crazy but hopefully is not normally reachable,
-        // just reset the cache to keep its size limited so this is not a memory leak
-        if (CACHE.size() > 16384) {
-            CACHE.clear();
+        // The least recently used patterns are dropped once the cache is full, so this is not a memory leak.
+        ICraftingPattern pattern = CACHE.get(new ItemStackKey(stack));
+
+        if (pattern == null) {
+            pattern = CACHE.computeIfAbsent(
+                ItemStackKey.copyOf(stack),
+                s -> CraftingPatternFactory.INSTANCE.create(world, null, s.getStack())
+            );
         }
 
         return pattern;
     }
 
+    public static void invalidateCache() {
+        CACHE.clear();
+    }
+
     @Override
     public void addInformation(ItemStack stack, @Nullable World world, List<ITextComponent> tooltip, ITooltipFlag flag) {
         super.addInformation(stack, world, tooltip, flag);
@@ -0,0 +1,47 @@
+package com.refinedmods.refinedstorage.network;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class ChunkVisualUpdateMessage {
+    private final Map<BlockPos, byte[]> updates;
+
+    public ChunkVisualUpdateMessage(Map<BlockPos, byte[]> updates) {
+        this.updates = updates;
+    }
+
+    public static ChunkVisualUpdateMessage decode(PacketBuffer buf) {
+        int size = buf.readVarInt();
+
+        Map<BlockPos, byte[]> updates = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; ++i) {
+            updates.put(buf.readBlockPos(), buf.readByteArray());
+        }
+
+        return new ChunkVisualUpdateMessage(updates);
+    }
+
+    public static void encode(ChunkVisualUpdateMessage message, PacketBuffer buf) {
+        buf.writeVarInt(message.updates.size());
+
+        for (Map.Entry<BlockPos, byte[]> update : message.updates.entrySet()) {
+            buf.writeBlockPos(update.getKey());
+            buf.writeByteArray(update.getValue());
+        }
+    }
+
+    public static void handle(ChunkVisualUpdateMessage message, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> ClientProxy.onReceivedChunkVisualUpdateMessage(message));
+        ctx.get().setPacketHandled(true);
+    }
+
+    public Map<BlockPos, byte[]> getUpdates() {
+        return updates;
+    }
+}
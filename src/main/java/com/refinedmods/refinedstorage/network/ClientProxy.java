@@ -6,10 +6,17 @@ import com.refinedmods.refinedstorage.screen.BaseScreen;
 import com.refinedmods.refinedstorage.screen.CraftingMonitorScreen;
 import com.refinedmods.refinedstorage.screen.grid.CraftingPreviewScreen;
 import com.refinedmods.refinedstorage.screen.grid.CraftingSettingsScreen;
+import com.refinedmods.refinedstorage.tile.IVisualUpdateTile;
+import io.netty.buffer.Unpooled;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TranslationTextComponent;
 
+import java.util.Map;
+
 public class ClientProxy {
     private ClientProxy() {
     }
@@ -40,6 +47,24 @@ public class ClientProxy {
     }
 
     public static void onReceivedCraftingMonitorUpdateMessage(CraftingMonitorUpdateMessage message) {
-        BaseScreen.executeLater(CraftingMonitorScreen.class, craftingMonitor -> craftingMonitor.setTasks(message.getTasks()));
+        BaseScreen.executeLater(CraftingMonitorScreen.class, craftingMonitor -> craftingMonitor.updateTasks(message.getTaskIds(), message.getChangedTasks()));
+    }
+
+    public static void onReceivedChunkVisualUpdateMessage(ChunkVisualUpdateMessage message) {
+        if (Minecraft.getInstance().world == null) {
+            return;
+        }
+
+        for (Map.Entry<BlockPos, byte[]> update : message.getUpdates().entrySet()) {
+            if (!Minecraft.getInstance().world.isBlockPresent(update.getKey())) {
+                continue;
+            }
+
+            TileEntity tile = Minecraft.getInstance().world.getTileEntity(update.getKey());
+
+            if (tile instanceof IVisualUpdateTile) {
+                ((IVisualUpdateTile) tile).readVisualUpdate(new PacketBuffer(Unpooled.wrappedBuffer(update.getValue())));
+            }
+        }
     }
 }
@@ -11,9 +11,11 @@ import com.refinedmods.refinedstorage.network.tiledata.TileDataParameterMessage;
 import com.refinedmods.refinedstorage.network.tiledata.TileDataParameterUpdateMessage;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.util.FakePlayer;
 import net.minecraftforge.fml.network.NetworkDirection;
 import net.minecraftforge.fml.network.NetworkRegistry;
+import net.minecraftforge.fml.network.PacketDistributor;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
 
 public class NetworkHandler {
@@ -69,6 +71,7 @@ public class NetworkHandler {
         handler.registerMessage(id++, CraftingMonitorUpdateMessage.class, CraftingMonitorUpdateMessage::encode, CraftingMonitorUpdateMessage::decode, CraftingMonitorUpdateMessage::handle);
         handler.registerMessage(id++, CraftingMonitorCancelMessage.class, CraftingMonitorCancelMessage::encode, CraftingMonitorCancelMessage::decode, CraftingMonitorCancelMessage::handle);
         handler.registerMessage(id++, WirelessCraftingMonitorSettingsUpdateMessage.class, WirelessCraftingMonitorSettingsUpdateMessage::encode, WirelessCraftingMonitorSettingsUpdateMessage::decode, WirelessCraftingMonitorSettingsUpdateMessage::handle);
+        handler.registerMessage(id++, ChunkVisualUpdateMessage.class, ChunkVisualUpdateMessage::encode, ChunkVisualUpdateMessage::decode, ChunkVisualUpdateMessage::handle);
     }
 
     public void sendToServer(Object message) {
@@ -80,4 +83,8 @@ public class NetworkHandler {
             handler.sendTo(message, player.connection.netManager, NetworkDirection.PLAY_TO_CLIENT);
         }
     }
+
+    public void sendToTrackingChunk(Chunk chunk, Object message) {
+        handler.send(PacketDistributor.TRACKING_CHUNK.with(() -> chunk), message);
+    }
 }
@@ -8,45 +8,58 @@ import com.refinedmods.refinedstorage.api.network.grid.IGridTab;
 import com.refinedmods.refinedstorage.apiimpl.API;
 import com.refinedmods.refinedstorage.network.ClientProxy;
 import com.refinedmods.refinedstorage.screen.CraftingMonitorScreen;
-import com.refinedmods.refinedstorage.tile.craftingmonitor.ICraftingMonitor;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.network.NetworkEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class CraftingMonitorUpdateMessage {
     private static final Logger LOGGER = LogManager.getLogger(CraftingMonitorUpdateMessage.class);
 
-    private ICraftingMonitor craftingMonitor;
+    private List<ICraftingTask> tasks;
+    private Set<UUID> changedTaskIds;
 
-    private List<IGridTab> tasks = new ArrayList<>();
+    // Unchanged tasks are only sent by id, the client keeps what it already had for those.
+    private List<UUID> taskIds = new ArrayList<>();
+    private Map<UUID, IGridTab> changedTasks = new HashMap<>();
 
-    public CraftingMonitorUpdateMessage(ICraftingMonitor craftingMonitor) {
-        this.craftingMonitor = craftingMonitor;
+    public CraftingMonitorUpdateMessage(List<ICraftingTask> tasks, Set<UUID> changedTaskIds) {
+        this.tasks = tasks;
+        this.changedTaskIds = changedTaskIds;
     }
 
-    public CraftingMonitorUpdateMessage(List<IGridTab> tasks) {
-        this.tasks = tasks;
+    public CraftingMonitorUpdateMessage(List<UUID> taskIds, Map<UUID, IGridTab> changedTasks) {
+        this.taskIds = taskIds;
+        this.changedTasks = changedTasks;
+    }
+
+    public List<UUID> getTaskIds() {
+        return taskIds;
     }
 
-    public List<IGridTab> getTasks() {
-        return tasks;
+    public Map<UUID, IGridTab> getChangedTasks() {
+        return changedTasks;
     }
 
     public static CraftingMonitorUpdateMessage decode(PacketBuffer buf) {
         int size = buf.readInt();
 
-        List<IGridTab> tasks = new ArrayList<>();
+        List<UUID> taskIds = new ArrayList<>();
+        Map<UUID, IGridTab> changedTasks = new HashMap<>();
 
         for (int i = 0; i < size; ++i) {
             UUID id = buf.readUniqueId();
 
+            taskIds.add(id);
+
+            if (!buf.readBoolean()) {
+                continue;
+            }
+
             ICraftingRequestInfo requested = null;
             try {
                 requested = API.instance().createCraftingRequestInfo(buf.readCompoundTag());
@@ -70,17 +83,26 @@ public class CraftingMonitorUpdateMessage {
                 }
             }
 
-            tasks.add(new CraftingMonitorScreen.Task(id, requested, qty, executionStarted, percentage, elements));
+            changedTasks.put(id, new CraftingMonitorScreen.Task(id, requested, qty, executionStarted, percentage, elements));
         }
 
-        return new CraftingMonitorUpdateMessage(tasks);
+        return new CraftingMonitorUpdateMessage(taskIds, changedTasks);
     }
 
     public static void encode(CraftingMonitorUpdateMessage message, PacketBuffer buf) {
-        buf.writeInt(message.craftingMonitor.getTasks().size());
+        buf.writeInt(message.tasks.size());
 
-        for (ICraftingTask task : message.craftingMonitor.getTasks()) {
+        for (ICraftingTask task : message.tasks) {
             buf.writeUniqueId(task.getId());
+
+            boolean changed = message.changedTaskIds.contains(task.getId());
+
+            buf.writeBoolean(changed);
+
+            if (!changed) {
+                continue;
+            }
+
             buf.writeCompoundTag(task.getRequested().writeToNbt());
             buf.writeInt(task.getQuantity());
             buf.writeLong(task.getStartTime());
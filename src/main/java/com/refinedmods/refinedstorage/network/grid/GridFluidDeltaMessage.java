@@ -22,12 +22,18 @@ public class GridFluidDeltaMessage {
     @Nullable
     private INetwork network;
     private List<StackListResult<FluidStack>> deltas;
+    private boolean craftables;
 
     private List<Pair<IGridStack, Integer>> clientDeltas;
 
     public GridFluidDeltaMessage(INetwork network, List<StackListResult<FluidStack>> deltas) {
+        this(network, deltas, false);
+    }
+
+    public GridFluidDeltaMessage(INetwork network, List<StackListResult<FluidStack>> deltas, boolean craftables) {
         this.network = network;
         this.deltas = deltas;
+        this.craftables = craftables;
     }
 
     public GridFluidDeltaMessage(List<Pair<IGridStack, Integer>> clientDeltas) {
@@ -54,9 +60,15 @@ public class GridFluidDeltaMessage {
         for (StackListResult<FluidStack> delta : message.deltas) {
             buf.writeInt(delta.getChange());
 
-            StackListEntry<FluidStack> craftingEntry = message.network.getFluidStorageCache().getCraftablesList().getEntry(delta.getStack(), IComparer.COMPARE_NBT);
+            if (message.craftables) {
+                StackListEntry<FluidStack> regularEntry = message.network.getFluidStorageCache().getList().getEntry(delta.getStack(), IComparer.COMPARE_NBT);
+
+                StackUtils.writeFluidGridStack(buf, delta.getStack(), delta.getId(), regularEntry != null ? regularEntry.getId() : null, true, message.network.getFluidStorageTracker().get(delta.getStack()));
+            } else {
+                StackListEntry<FluidStack> craftingEntry = message.network.getFluidStorageCache().getCraftablesList().getEntry(delta.getStack(), IComparer.COMPARE_NBT);
 
-            StackUtils.writeFluidGridStack(buf, delta.getStack(), delta.getId(), craftingEntry != null ? craftingEntry.getId() : null, false, message.network.getFluidStorageTracker().get(delta.getStack()));
+                StackUtils.writeFluidGridStack(buf, delta.getStack(), delta.getId(), craftingEntry != null ? craftingEntry.getId() : null, false, message.network.getFluidStorageTracker().get(delta.getStack()));
+            }
         }
     }
 
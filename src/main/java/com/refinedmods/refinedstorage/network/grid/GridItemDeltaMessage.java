@@ -22,12 +22,18 @@ public class GridItemDeltaMessage {
     @Nullable
     private INetwork network;
     private List<StackListResult<ItemStack>> deltas;
+    private boolean craftables;
 
     private List<Pair<IGridStack, Integer>> clientDeltas;
 
     public GridItemDeltaMessage(INetwork network, List<StackListResult<ItemStack>> deltas) {
+        this(network, deltas, false);
+    }
+
+    public GridItemDeltaMessage(INetwork network, List<StackListResult<ItemStack>> deltas, boolean craftables) {
         this.network = network;
         this.deltas = deltas;
+        this.craftables = craftables;
     }
 
     public GridItemDeltaMessage(List<Pair<IGridStack, Integer>> clientDeltas) {
@@ -54,9 +60,15 @@ public class GridItemDeltaMessage {
         for (StackListResult<ItemStack> delta : message.deltas) {
             buf.writeInt(delta.getChange());
 
-            StackListEntry<ItemStack> craftingEntry = message.network.getItemStorageCache().getCraftablesList().getEntry(delta.getStack(), IComparer.COMPARE_NBT);
+            if (message.craftables) {
+                StackListEntry<ItemStack> regularEntry = message.network.getItemStorageCache().getList().getEntry(delta.getStack(), IComparer.COMPARE_NBT);
+
+                StackUtils.writeItemGridStack(buf, delta.getStack(), delta.getId(), regularEntry != null ? regularEntry.getId() : null, true, message.network.getItemStorageTracker().get(delta.getStack()));
+            } else {
+                StackListEntry<ItemStack> craftingEntry = message.network.getItemStorageCache().getCraftablesList().getEntry(delta.getStack(), IComparer.COMPARE_NBT);
 
-            StackUtils.writeItemGridStack(buf, delta.getStack(), delta.getId(), craftingEntry != null ? craftingEntry.getId() : null, false, message.network.getItemStorageTracker().get(delta.getStack()));
+                StackUtils.writeItemGridStack(buf, delta.getStack(), delta.getId(), craftingEntry != null ? craftingEntry.getId() : null, false, message.network.getItemStorageTracker().get(delta.getStack()));
+            }
         }
     }
 
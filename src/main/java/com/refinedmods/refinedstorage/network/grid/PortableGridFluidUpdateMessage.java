@@ -12,23 +12,42 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.network.NetworkEvent;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Supplier;
 
 public class PortableGridFluidUpdateMessage {
+    // The maximum amount of stacks sent in a single message, the contents of larger disks are split over multiple messages.
+    public static final int MAX_STACKS = 1000;
+
     private IPortableGrid portableGrid;
+    private Collection<StackListEntry<FluidStack>> entries;
 
     private List<IGridStack> stacks = new ArrayList<>();
 
-    public PortableGridFluidUpdateMessage(List<IGridStack> stacks) {
+    // The stacks of the messages received so far, the view is only replaced once the last message of the contents arrives.
+    private static final List<IGridStack> RECEIVED_STACKS = new ArrayList<>();
+
+    // Whether this is the first or last message of the contents.
+    private final boolean first;
+    private final boolean last;
+
+    public PortableGridFluidUpdateMessage(List<IGridStack> stacks, boolean first, boolean last) {
         this.stacks = stacks;
+        this.first = first;
+        this.last = last;
     }
 
-    public PortableGridFluidUpdateMessage(IPortableGrid portableGrid) {
+    public PortableGridFluidUpdateMessage(IPortableGrid portableGrid, Collection<StackListEntry<FluidStack>> entries, boolean first, boolean last) {
         this.portableGrid = portableGrid;
+        this.entries = entries;
+        this.first = first;
+        this.last = last;
     }
 
     public static PortableGridFluidUpdateMessage decode(PacketBuffer buf) {
+        boolean first = buf.readBoolean();
+        boolean last = buf.readBoolean();
         int size = buf.readInt();
 
         List<IGridStack> stacks = new ArrayList<>();
@@ -37,24 +56,34 @@ public class PortableGridFluidUpdateMessage {
             stacks.add(StackUtils.readFluidGridStack(buf));
         }
 
-        return new PortableGridFluidUpdateMessage(stacks);
+        return new PortableGridFluidUpdateMessage(stacks, first, last);
     }
 
     public static void encode(PortableGridFluidUpdateMessage message, PacketBuffer buf) {
-        int size = message.portableGrid.getFluidCache().getList().getStacks().size();
-
-        buf.writeInt(size);
+        buf.writeBoolean(message.first);
+        buf.writeBoolean(message.last);
+        buf.writeInt(message.entries.size());
 
-        for (StackListEntry<FluidStack> stack : message.portableGrid.getFluidCache().getList().getStacks()) {
+        for (StackListEntry<FluidStack> stack : message.entries) {
             StackUtils.writeFluidGridStack(buf, stack.getStack(), stack.getId(), null, false, message.portableGrid.getFluidStorageTracker().get(stack.getStack()));
         }
     }
 
     public static void handle(PortableGridFluidUpdateMessage message, Supplier<NetworkEvent.Context> ctx) {
         BaseScreen.executeLater(GridScreen.class, grid -> {
-            grid.setView(new GridViewImpl(grid, GridScreen.getDefaultSorter(), GridScreen.getSorters()));
-            grid.getView().setStacks(message.stacks);
-            grid.getView().sort();
+            if (message.first) {
+                RECEIVED_STACKS.clear();
+            }
+
+            RECEIVED_STACKS.addAll(message.stacks);
+
+            if (message.last) {
+                grid.setView(new GridViewImpl(grid, GridScreen.getDefaultSorter(), GridScreen.getSorters()));
+                grid.getView().setStacks(RECEIVED_STACKS);
+                grid.getView().sort();
+
+                RECEIVED_STACKS.clear();
+            }
         });
 
         ctx.get().setPacketHandled(true);
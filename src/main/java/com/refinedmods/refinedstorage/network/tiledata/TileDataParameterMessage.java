@@ -3,19 +3,18 @@ package com.refinedmods.refinedstorage.network.tiledata;
 import com.refinedmods.refinedstorage.tile.data.TileDataManager;
 import com.refinedmods.refinedstorage.tile.data.TileDataParameter;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.fml.network.NetworkEvent;
 
 import java.util.function.Supplier;
 
 public class TileDataParameterMessage {
-    private final TileEntity tile;
     private final TileDataParameter parameter;
+    private final Object value;
     private final boolean initial;
 
-    public TileDataParameterMessage(TileEntity tile, TileDataParameter parameter, boolean initial) {
-        this.tile = tile;
+    public TileDataParameterMessage(TileDataParameter parameter, Object value, boolean initial) {
         this.parameter = parameter;
+        this.value = value;
         this.initial = initial;
     }
 
@@ -40,7 +39,7 @@ public class TileDataParameterMessage {
         buf.writeInt(message.parameter.getId());
         buf.writeBoolean(message.initial);
 
-        message.parameter.getSerializer().write(buf, message.parameter.getValueProducer().apply(message.tile));
+        message.parameter.getSerializer().write(buf, message.value);
     }
 
     public static void handle(Supplier<NetworkEvent.Context> ctx) {
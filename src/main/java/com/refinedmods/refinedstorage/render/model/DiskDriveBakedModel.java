@@ -21,6 +21,11 @@ import java.util.List;
 import java.util.Random;
 
 public class DiskDriveBakedModel extends DelegateBakedModel {
+    private static final int SLOTS = 8;
+    private static final int CACHE_SIZE = 1024;
+    private static final int BASE_SLOT = -1;
+    private static final Direction[] SIDES = {null, Direction.DOWN, Direction.UP, Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST};
+
     private static class CacheKey {
         private final BlockState state;
         private final Direction side;
@@ -66,56 +71,70 @@ public class DiskDriveBakedModel extends DelegateBakedModel {
         }
     }
 
-    private final IBakedModel disk;
-    private final IBakedModel diskNearCapacity;
-    private final IBakedModel diskFull;
-    private final IBakedModel diskDisconnected;
+    // The transformed quads of the base model or of the disk model in a single slot.
+    private static class FragmentKey {
+        private final IBakedModel model;
+        private final BlockState state;
+        private final Direction side;
+        private final int slot;
+        private final Random random;
+
+        FragmentKey(IBakedModel model, BlockState state, @Nullable Direction side, int slot, Random random) {
+            this.model = model;
+            this.state = state;
+            this.side = side;
+            this.slot = slot;
+            this.random = random;
+        }
 
-    private final LoadingCache<CacheKey, List<BakedQuad>> cache = CacheBuilder.newBuilder().build(new CacheLoader<CacheKey, List<BakedQuad>>() {
         @Override
-        @SuppressWarnings("deprecation")
-        public List<BakedQuad> load(CacheKey key) {
-            Direction facing = key.state.get(RSBlocks.DISK_DRIVE.get().getDirection().getProperty());
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
 
-            List<BakedQuad> quads = new ArrayList<>(QuadTransformer.getTransformedQuads(base, facing, null, key.state, key.random, key.side));
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
 
-            int x = 0;
-            int y = 0;
-            for (int i = 0; i < 8; ++i) {
-                if (key.diskState[i] != DiskState.NONE) {
-                    IBakedModel diskModel = getDiskModel(key.diskState[i]);
-
-                    quads.addAll(QuadTransformer.getTransformedQuads(
-                        diskModel,
-                        facing,
-                        getDiskTranslation(facing, x, y),
-                        key.state,
-                        key.random,
-                        key.side
-                    ));
-                }
+            FragmentKey fragmentKey = (FragmentKey) o;
 
-                x++;
-                if ((i + 1) % 2 == 0) {
-                    y++;
-                    x = 0;
-                }
-            }
+            return model == fragmentKey.model &&
+                slot == fragmentKey.slot &&
+                side == fragmentKey.side &&
+                state.equals(fragmentKey.state);
+        }
 
-            return quads;
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(model);
+            result = 31 * result + state.hashCode();
+            result = 31 * result + (side != null ? side.hashCode() : 0);
+            result = 31 * result + slot;
+            return result;
         }
+    }
 
-        private IBakedModel getDiskModel(DiskState diskState) {
-            switch (diskState) {
-                case DISCONNECTED:
-                    return diskDisconnected;
-                case NEAR_CAPACITY:
-                    return diskNearCapacity;
-                case FULL:
-                    return diskFull;
-                default:
-                    return disk;
+    // Bounded by the models, block states, sides and slots, unlike the combinations of disk states in the cache.
+    // Shared between the models of all variants, as those use the same disk models.
+    private static final LoadingCache<FragmentKey, List<BakedQuad>> FRAGMENTS = CacheBuilder.newBuilder().build(new CacheLoader<FragmentKey, List<BakedQuad>>() {
+        @Override
+        @SuppressWarnings("deprecation")
+        public List<BakedQuad> load(FragmentKey key) {
+            Direction facing = key.state.get(RSBlocks.DISK_DRIVE.get().getDirection().getProperty());
+
+            if (key.slot == BASE_SLOT) {
+                return QuadTransformer.getTransformedQuads(key.model, facing, null, key.state, key.random, key.side);
             }
+
+            return QuadTransformer.getTransformedQuads(
+                key.model,
+                facing,
+                getDiskTranslation(facing, key.slot % 2, key.slot / 2),
+                key.state,
+                key.random,
+                key.side
+            );
         }
 
         private Vector3f getDiskTranslation(Direction facing, int x, int y) {
@@ -133,6 +152,30 @@ public class DiskDriveBakedModel extends DelegateBakedModel {
         }
     });
 
+    private final IBakedModel disk;
+    private final IBakedModel diskNearCapacity;
+    private final IBakedModel diskFull;
+    private final IBakedModel diskDisconnected;
+
+    private final LoadingCache<CacheKey, List<BakedQuad>> cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<CacheKey, List<BakedQuad>>() {
+        @Override
+        public List<BakedQuad> load(CacheKey key) {
+            List<BakedQuad> quads = new ArrayList<>(FRAGMENTS.getUnchecked(new FragmentKey(base, key.state, key.side, BASE_SLOT, key.random)));
+
+            for (int i = 0; i < SLOTS; ++i) {
+                if (key.diskState[i] != DiskState.NONE) {
+                    quads.addAll(FRAGMENTS.getUnchecked(new FragmentKey(getDiskModel(key.diskState[i]), key.state, key.side, i, key.random)));
+                }
+            }
+
+            return quads;
+        }
+    });
+
+    public static void invalidateCache() {
+        FRAGMENTS.invalidateAll();
+    }
+
     public DiskDriveBakedModel(IBakedModel base,
                                IBakedModel disk,
                                IBakedModel diskNearCapacity,
@@ -144,6 +187,40 @@ public class DiskDriveBakedModel extends DelegateBakedModel {
         this.diskNearCapacity = diskNearCapacity;
         this.diskFull = diskFull;
         this.diskDisconnected = diskDisconnected;
+
+        prewarm();
+    }
+
+    // Models are baked again on every resource reload, so all fragments are there before the first chunk is built.
+    private void prewarm() {
+        Random random = new Random();
+
+        for (BlockState state : RSBlocks.DISK_DRIVE.get().getStateContainer().getValidStates()) {
+            for (Direction side : SIDES) {
+                FRAGMENTS.getUnchecked(new FragmentKey(base, state, side, BASE_SLOT, random));
+
+                for (int slot = 0; slot < SLOTS; ++slot) {
+                    for (DiskState diskState : DiskState.values()) {
+                        if (diskState != DiskState.NONE) {
+                            FRAGMENTS.getUnchecked(new FragmentKey(getDiskModel(diskState), state, side, slot, random));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private IBakedModel getDiskModel(DiskState diskState) {
+        switch (diskState) {
+            case DISCONNECTED:
+                return diskDisconnected;
+            case NEAR_CAPACITY:
+                return diskNearCapacity;
+            case FULL:
+                return diskFull;
+            default:
+                return disk;
+        }
     }
 
     @Nonnull
@@ -8,6 +8,7 @@ import com.refinedmods.refinedstorage.apiimpl.network.node.DiskState;
 import com.refinedmods.refinedstorage.block.NetworkNodeBlock;
 import com.refinedmods.refinedstorage.tile.DiskManipulatorTile;
 import com.refinedmods.refinedstorage.util.ColorMap;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.renderer.model.BakedQuad;
 import net.minecraft.client.renderer.model.IBakedModel;
@@ -23,6 +24,11 @@ import java.util.List;
 import java.util.Random;
 
 public class DiskManipulatorBakedModel extends DelegateBakedModel {
+    private static final int SLOTS = 6;
+    private static final int CACHE_SIZE = 1024;
+    private static final int BASE_SLOT = -1;
+    private static final Direction[] SIDES = {null, Direction.DOWN, Direction.UP, Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST};
+
     private static class CacheKey {
         private final BlockState state;
         private final Direction side;
@@ -68,66 +74,70 @@ public class DiskManipulatorBakedModel extends DelegateBakedModel {
         }
     }
 
-    private final IBakedModel baseConnected;
-    private final IBakedModel baseDisconnected;
-    private final IBakedModel disk;
-    private final IBakedModel diskNearCapacity;
-    private final IBakedModel diskFull;
-    private final IBakedModel diskDisconnected;
+    // The transformed quads of the base model or of the disk model in a single slot.
+    private static class FragmentKey {
+        private final IBakedModel model;
+        private final BlockState state;
+        private final Direction side;
+        private final int slot;
+        private final Random random;
+
+        FragmentKey(IBakedModel model, BlockState state, @Nullable Direction side, int slot, Random random) {
+            this.model = model;
+            this.state = state;
+            this.side = side;
+            this.slot = slot;
+            this.random = random;
+        }
 
-    private final LoadingCache<CacheKey, List<BakedQuad>> cache = CacheBuilder.newBuilder().build(new CacheLoader<CacheKey, List<BakedQuad>>() {
         @Override
-        @SuppressWarnings("deprecation")
-        public List<BakedQuad> load(CacheKey key) {
-            Direction facing = key.state.get(RSBlocks.DISK_MANIPULATOR.get(ColorMap.DEFAULT_COLOR).get().getDirection().getProperty());
-            boolean connected = key.state.get(NetworkNodeBlock.CONNECTED);
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
 
-            List<BakedQuad> quads = new ArrayList<>(QuadTransformer.getTransformedQuads(
-                connected ? baseConnected : baseDisconnected,
-                facing,
-                null,
-                key.state,
-                key.random,
-                key.side
-            ));
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
 
-            int x = 0;
-            int y = 0;
-            for (int i = 0; i < 6; ++i) {
-                if (key.diskState[i] != DiskState.NONE) {
-                    IBakedModel diskModel = getDiskModel(key.diskState[i]);
-
-                    quads.addAll(QuadTransformer.getTransformedQuads(
-                        diskModel,
-                        facing,
-                        getDiskTranslation(facing, x, y),
-                        key.state,
-                        key.random,
-                        key.side
-                    ));
-                }
+            FragmentKey fragmentKey = (FragmentKey) o;
 
-                y++;
-                if ((i + 1) % 3 == 0) {
-                    x++;
-                    y = 0;
-                }
-            }
+            return model == fragmentKey.model &&
+                slot == fragmentKey.slot &&
+                side == fragmentKey.side &&
+                state.equals(fragmentKey.state);
+        }
 
-            return quads;
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(model);
+            result = 31 * result + state.hashCode();
+            result = 31 * result + (side != null ? side.hashCode() : 0);
+            result = 31 * result + slot;
+            return result;
         }
+    }
 
-        private IBakedModel getDiskModel(DiskState diskState) {
-            switch (diskState) {
-                case DISCONNECTED:
-                    return diskDisconnected;
-                case NEAR_CAPACITY:
-                    return diskNearCapacity;
-                case FULL:
-                    return diskFull;
-                default:
-                    return disk;
+    // Bounded by the models, block states, sides and slots, unlike the combinations of disk states in the cache.
+    // Every color is a separate block with its own block states, so each color has its own fragments.
+    private static final LoadingCache<FragmentKey, List<BakedQuad>> FRAGMENTS = CacheBuilder.newBuilder().build(new CacheLoader<FragmentKey, List<BakedQuad>>() {
+        @Override
+        @SuppressWarnings("deprecation")
+        public List<BakedQuad> load(FragmentKey key) {
+            Direction facing = key.state.get(RSBlocks.DISK_MANIPULATOR.get(ColorMap.DEFAULT_COLOR).get().getDirection().getProperty());
+
+            if (key.slot == BASE_SLOT) {
+                return QuadTransformer.getTransformedQuads(key.model, facing, null, key.state, key.random, key.side);
             }
+
+            return QuadTransformer.getTransformedQuads(
+                key.model,
+                facing,
+                getDiskTranslation(facing, key.slot / 3, key.slot % 3),
+                key.state,
+                key.random,
+                key.side
+            );
         }
 
         private Vector3f getDiskTranslation(Direction facing, int x, int y) {
@@ -145,7 +155,33 @@ public class DiskManipulatorBakedModel extends DelegateBakedModel {
         }
     });
 
-    public DiskManipulatorBakedModel(IBakedModel baseConnected, IBakedModel baseDisconnected, IBakedModel disk, IBakedModel diskNearCapacity, IBakedModel diskFull, IBakedModel diskDisconnected) {
+    private final IBakedModel baseConnected;
+    private final IBakedModel baseDisconnected;
+    private final IBakedModel disk;
+    private final IBakedModel diskNearCapacity;
+    private final IBakedModel diskFull;
+    private final IBakedModel diskDisconnected;
+
+    private final LoadingCache<CacheKey, List<BakedQuad>> cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<CacheKey, List<BakedQuad>>() {
+        @Override
+        public List<BakedQuad> load(CacheKey key) {
+            List<BakedQuad> quads = new ArrayList<>(FRAGMENTS.getUnchecked(new FragmentKey(getBaseModel(key.state), key.state, key.side, BASE_SLOT, key.random)));
+
+            for (int i = 0; i < SLOTS; ++i) {
+                if (key.diskState[i] != DiskState.NONE) {
+                    quads.addAll(FRAGMENTS.getUnchecked(new FragmentKey(getDiskModel(key.diskState[i]), key.state, key.side, i, key.random)));
+                }
+            }
+
+            return quads;
+        }
+    });
+
+    public static void invalidateCache() {
+        FRAGMENTS.invalidateAll();
+    }
+
+    public DiskManipulatorBakedModel(IBakedModel baseConnected, IBakedModel baseDisconnected, IBakedModel disk, IBakedModel diskNearCapacity, IBakedModel diskFull, IBakedModel diskDisconnected, Block block) {
         super(baseConnected);
 
         this.baseConnected = baseConnected;
@@ -154,6 +190,48 @@ public class DiskManipulatorBakedModel extends DelegateBakedModel {
         this.diskNearCapacity = diskNearCapacity;
         this.diskFull = diskFull;
         this.diskDisconnected = diskDisconnected;
+
+        // Only the default color, prewarming all of them would make every resource reload a lot slower.
+        // The fragments of the other colors are built the first time they are rendered.
+        if (block == RSBlocks.DISK_MANIPULATOR.get(ColorMap.DEFAULT_COLOR).get()) {
+            prewarm(block);
+        }
+    }
+
+    // Models are baked again on every resource reload, so the fragments are there before the first chunk is built.
+    private void prewarm(Block block) {
+        Random random = new Random();
+
+        for (BlockState state : block.getStateContainer().getValidStates()) {
+            for (Direction side : SIDES) {
+                FRAGMENTS.getUnchecked(new FragmentKey(getBaseModel(state), state, side, BASE_SLOT, random));
+
+                for (int slot = 0; slot < SLOTS; ++slot) {
+                    for (DiskState diskState : DiskState.values()) {
+                        if (diskState != DiskState.NONE) {
+                            FRAGMENTS.getUnchecked(new FragmentKey(getDiskModel(diskState), state, side, slot, random));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private IBakedModel getBaseModel(BlockState state) {
+        return state.get(NetworkNodeBlock.CONNECTED) ? baseConnected : baseDisconnected;
+    }
+
+    private IBakedModel getDiskModel(DiskState diskState) {
+        switch (diskState) {
+            case DISCONNECTED:
+                return diskDisconnected;
+            case NEAR_CAPACITY:
+                return diskNearCapacity;
+            case FULL:
+                return diskFull;
+            default:
+                return disk;
+        }
     }
 
     @Override
@@ -31,10 +31,7 @@ import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraftforge.fluids.FluidStack;
 
 import javax.annotation.Nullable;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 public class CraftingMonitorScreen extends BaseScreen<CraftingMonitorContainer> {
     public static class Task implements IGridTab {
@@ -144,8 +141,22 @@ public class CraftingMonitorScreen extends BaseScreen<CraftingMonitorContainer>
         this.scrollbar = new ScrollbarWidget(this, 235, 20, 12, 149);
     }
 
-    public void setTasks(List<IGridTab> tasks) {
-        this.tasks = tasks;
+    public void updateTasks(List<UUID> taskIds, Map<UUID, IGridTab> changedTasks) {
+        List<IGridTab> updatedTasks = new ArrayList<>();
+
+        for (UUID id : taskIds) {
+            IGridTab task = changedTasks.get(id);
+
+            if (task == null) {
+                task = getTabById(id);
+            }
+
+            if (task != null) {
+                updatedTasks.add(task);
+            }
+        }
+
+        this.tasks = updatedTasks;
     }
 
     public List<ICraftingMonitorElement> getElements() {
@@ -173,6 +173,9 @@ public class CraftingPreviewScreen extends BaseScreen<Container> {
             case TOO_COMPLEX:
                 renderTooComplexError(matrixStack, x, y, scale);
                 break;
+            case PATTERNS_LOADING:
+                renderPatternsLoadingError(matrixStack, x, y, scale);
+                break;
             default:
                 break;
         }
@@ -185,6 +188,11 @@ public class CraftingPreviewScreen extends BaseScreen<Container> {
         renderString(matrixStack, RenderUtils.getOffsetOnScale(x + 5, scale), RenderUtils.getOffsetOnScale(y + 31, scale), I18n.format("gui.refinedstorage.crafting_preview.error.too_complex.1"));
     }
 
+    private void renderPatternsLoadingError(MatrixStack matrixStack, int x, int y, float scale) {
+        renderString(matrixStack, RenderUtils.getOffsetOnScale(x + 5, scale), RenderUtils.getOffsetOnScale(y + 21, scale), I18n.format("gui.refinedstorage.crafting_preview.error.patterns_loading.0"));
+        renderString(matrixStack, RenderUtils.getOffsetOnScale(x + 5, scale), RenderUtils.getOffsetOnScale(y + 31, scale), I18n.format("gui.refinedstorage.crafting_preview.error.patterns_loading.1"));
+    }
+
     private void renderRecursiveError(MatrixStack matrixStack, int x, int y, float scale, ItemStack recursedPattern) {
         renderString(matrixStack, RenderUtils.getOffsetOnScale(x + 5, scale), RenderUtils.getOffsetOnScale(y + 21, scale), I18n.format("gui.refinedstorage.crafting_preview.error.recursive.0"));
         renderString(matrixStack, RenderUtils.getOffsetOnScale(x + 5, scale), RenderUtils.getOffsetOnScale(y + 31, scale), I18n.format("gui.refinedstorage.crafting_preview.error.recursive.1"));
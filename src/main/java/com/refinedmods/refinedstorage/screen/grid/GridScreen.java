@@ -376,13 +376,15 @@ public class GridScreen extends BaseScreen<GridContainer> implements IScreenInfo
 
         RenderHelper.setupGui3DDiffuseLighting();
 
+        List<IGridStack> stacks = view.getStacks();
+
         for (int i = 0; i < 9 * getVisibleRows(); ++i) {
             if (RenderUtils.inBounds(x, y, 16, 16, mouseX, mouseY) || !grid.isGridActive()) {
                 this.slotNumber = slot;
             }
 
-            if (slot < view.getStacks().size()) {
-                view.getStacks().get(slot).draw(matrixStack, this, x, y);
+            if (slot < stacks.size()) {
+                stacks.get(slot).draw(matrixStack, this, x, y);
             }
 
             if (RenderUtils.inBounds(x, y, 16, 16, mouseX, mouseY) || !grid.isGridActive()) {
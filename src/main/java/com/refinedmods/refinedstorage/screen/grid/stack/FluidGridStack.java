@@ -36,6 +36,8 @@ public class FluidGridStack implements IGridStack {
     private List<ITextComponent> cachedTooltip;
     private String cachedModId;
     private String cachedModName;
+    private String cachedQuantityText;
+    private int cachedQuantityTextFor;
 
     public FluidGridStack(UUID id, @Nullable UUID otherId, FluidStack stack, @Nullable StorageTrackerEntry entry, boolean craftable) {
         this.id = id;
@@ -189,12 +191,22 @@ public class FluidGridStack implements IGridStack {
         } else if (isCraftable()) {
             text = I18n.format("gui.refinedstorage.grid.craft");
         } else {
-            text = API.instance().getQuantityFormatter().formatInBucketFormWithOnlyTrailingDigitsIfZero(getQuantity());
+            text = getQuantityText();
         }
 
         screen.renderQuantity(matrixStack, x, y, text, color);
     }
 
+    // Drawn every frame, so only formatted again when the quantity changed.
+    private String getQuantityText() {
+        if (cachedQuantityText == null || cachedQuantityTextFor != getQuantity()) {
+            cachedQuantityText = API.instance().getQuantityFormatter().formatInBucketFormWithOnlyTrailingDigitsIfZero(getQuantity());
+            cachedQuantityTextFor = getQuantity();
+        }
+
+        return cachedQuantityText;
+    }
+
     @Override
     public Object getIngredient() {
         return getStack();
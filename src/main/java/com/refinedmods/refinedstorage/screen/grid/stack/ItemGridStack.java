@@ -39,6 +39,8 @@ public class ItemGridStack implements IGridStack {
     private String cachedModId;
     private String cachedModName;
     private List<ITextComponent> cachedTooltip;
+    private String cachedQuantityText;
+    private int cachedQuantityTextFor;
 
     public ItemGridStack(ItemStack stack) {
         this.stack = stack;
@@ -202,12 +204,22 @@ public class ItemGridStack implements IGridStack {
         } else if (craftable) {
             text = I18n.format("gui.refinedstorage.grid.craft");
         } else if (stack.getCount() > 1) {
-            text = API.instance().getQuantityFormatter().formatWithUnits(getQuantity());
+            text = getQuantityText();
         }
 
         screen.renderItem(matrixStack, x, y, stack, true, text, color);
     }
 
+    // Drawn every frame, so only formatted again when the quantity changed.
+    private String getQuantityText() {
+        if (cachedQuantityText == null || cachedQuantityTextFor != getQuantity()) {
+            cachedQuantityText = API.instance().getQuantityFormatter().formatWithUnits(getQuantity());
+            cachedQuantityTextFor = getQuantity();
+        }
+
+        return cachedQuantityText;
+    }
+
     @Override
     public Object getIngredient() {
         return getStack();
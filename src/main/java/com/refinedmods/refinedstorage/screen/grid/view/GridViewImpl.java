@@ -6,6 +6,8 @@ import com.refinedmods.refinedstorage.screen.grid.filtering.GridFilterParser;
 import com.refinedmods.refinedstorage.screen.grid.sorting.IGridSorter;
 import com.refinedmods.refinedstorage.screen.grid.sorting.SortingDirection;
 import com.refinedmods.refinedstorage.screen.grid.stack.IGridStack;
+import com.refinedmods.refinedstorage.screen.grid.stack.ItemGridStack;
+import net.minecraft.item.Item;
 
 import javax.annotation.Nullable;
 import java.util.*;
@@ -23,6 +25,8 @@ public class GridViewImpl implements IGridView {
 
     private List<IGridStack> stacks = new ArrayList<>();
     protected final Map<UUID, IGridStack> map = new HashMap<>();
+    // The item stacks in the map by item, so recipe transfers don't have to go over all stacks.
+    private final Map<Item, List<IGridStack>> itemIndex = new HashMap<>();
 
     public GridViewImpl(GridScreen screen, IGridSorter defaultSorter, List<IGridSorter> sorters) {
         this.screen = screen;
@@ -40,6 +44,11 @@ public class GridViewImpl implements IGridView {
         return map.values();
     }
 
+    @Override
+    public Collection<IGridStack> getItemStacks(Item item) {
+        return itemIndex.getOrDefault(item, Collections.emptyList());
+    }
+
     @Nullable
     @Override
     public IGridStack get(UUID id) {
@@ -106,9 +115,11 @@ public class GridViewImpl implements IGridView {
     @Override
     public void setStacks(List<IGridStack> stacks) {
         map.clear();
+        itemIndex.clear();
 
         for (IGridStack stack : stacks) {
             map.put(stack.getId(), stack);
+            addToIndex(stack);
         }
     }
 
@@ -141,6 +152,21 @@ public class GridViewImpl implements IGridView {
             craftingStack = null;
         }
 
+        // Crafting stacks are added and removed with deltas when patterns change.
+        // Keep the reference of the regular stack to the crafting stack in sync, it's only cleared once the crafting stack is gone.
+        if (stack.isCraftable() &&
+                stack.getOtherId() != null &&
+                map.containsKey(stack.getOtherId())) {
+            IGridStack existingCraftingStack = map.get(stack.getId());
+            boolean craftingStackRemains = (existingCraftingStack != null ? existingCraftingStack.getQuantity() : 0) + delta > 0;
+
+            map.get(stack.getOtherId()).updateOtherId(craftingStackRemains ? stack.getId() : null);
+        }
+
+        if (stack.isCraftable() && delta <= 0 && !map.containsKey(stack.getId())) {
+            return;
+        }
+
         IGridStack existing = map.get(stack.getId());
         boolean stillExists = true;
         boolean shouldSort = screen.canSort();
@@ -149,6 +175,7 @@ public class GridViewImpl implements IGridView {
             stack.setQuantity(delta);
 
             map.put(stack.getId(), stack);
+            addToIndex(stack);
             existing = stack;
 
             if (craftingStack != null && shouldSort) {
@@ -161,6 +188,7 @@ public class GridViewImpl implements IGridView {
             existing.setQuantity(existing.getQuantity() + delta);
             if (existing.getQuantity() <= 0) {
                 map.remove(existing.getId());
+                removeFromIndex(existing);
                 stillExists = false;
 
                 if (craftingStack != null && shouldSort && getActiveFilters().test(craftingStack)) {
@@ -179,6 +207,27 @@ public class GridViewImpl implements IGridView {
         }
     }
 
+    private void addToIndex(IGridStack stack) {
+        if (stack instanceof ItemGridStack) {
+            itemIndex.computeIfAbsent(((ItemGridStack) stack).getStack().getItem(), item -> new ArrayList<>(1)).add(stack);
+        }
+    }
+
+    private void removeFromIndex(IGridStack stack) {
+        if (stack instanceof ItemGridStack) {
+            Item item = ((ItemGridStack) stack).getStack().getItem();
+            List<IGridStack> stacks = itemIndex.get(item);
+
+            if (stacks != null) {
+                stacks.remove(stack);
+
+                if (stacks.isEmpty()) {
+                    itemIndex.remove(item);
+                }
+            }
+        }
+    }
+
     private void addStack(IGridStack stack) {
         int insertionPos = Collections.binarySearch(stacks, stack, getActiveSort());
         if (insertionPos < 0) {
@@ -1,6 +1,7 @@
 package com.refinedmods.refinedstorage.screen.grid.view;
 
 import com.refinedmods.refinedstorage.screen.grid.stack.IGridStack;
+import net.minecraft.item.Item;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
@@ -15,6 +16,12 @@ public interface IGridView {
 
     Collection<IGridStack> getAllStacks();
 
+    /**
+     * @param item the item
+     * @return all item stacks of the given item, craftable or not, regardless of filtering
+     */
+    Collection<IGridStack> getItemStacks(Item item);
+
     void setStacks(List<IGridStack> stacks);
 
     void postChange(IGridStack stack, int delta);
@@ -2,9 +2,11 @@ package com.refinedmods.refinedstorage.setup;
 
 import com.refinedmods.refinedstorage.*;
 import com.refinedmods.refinedstorage.apiimpl.API;
+import com.refinedmods.refinedstorage.apiimpl.autocrafting.CraftingPatternFactory;
 import com.refinedmods.refinedstorage.container.CrafterContainer;
 import com.refinedmods.refinedstorage.container.CrafterManagerContainer;
 import com.refinedmods.refinedstorage.container.slot.CrafterManagerSlot;
+import com.refinedmods.refinedstorage.item.PatternItem;
 import com.refinedmods.refinedstorage.item.property.ControllerItemPropertyGetter;
 import com.refinedmods.refinedstorage.item.property.NetworkItemPropertyGetter;
 import com.refinedmods.refinedstorage.item.property.SecurityCardItemPropertyGetter;
@@ -29,9 +31,11 @@ import net.minecraft.item.ItemModelsProperties;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.client.event.ModelBakeEvent;
 import net.minecraftforge.client.event.ModelRegistryEvent;
+import net.minecraftforge.client.event.RecipesUpdatedEvent;
 import net.minecraftforge.client.model.ModelLoader;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.event.TagsUpdatedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.client.registry.ClientRegistry;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
@@ -107,7 +111,8 @@ public class ClientSetup {
                 registry.get(DISK_RESOURCE),
                 registry.get(DISK_NEAR_CAPACITY_RESOURCE),
                 registry.get(DISK_FULL_RESOURCE),
-                registry.get(DISK_DISCONNECTED_RESOURCE)
+                registry.get(DISK_DISCONNECTED_RESOURCE),
+                RSBlocks.DISK_MANIPULATOR.get(color).get()
             ),
             false,
             new ResourceLocation(RS.ID, "block/disks/leds"), new ResourceLocation(RS.ID, "block/disk_manipulator/cutouts/" + color)
@@ -143,6 +148,8 @@ public class ClientSetup {
         FMLJavaModLoadingContext.get().getModEventBus().addListener(this::onModelBake);
         FMLJavaModLoadingContext.get().getModEventBus().addListener(this::onModelRegistry);
         MinecraftForge.EVENT_BUS.addListener(this::addReloadListener);
+        MinecraftForge.EVENT_BUS.addListener(this::onRecipesUpdated);
+        MinecraftForge.EVENT_BUS.addListener(this::onTagsUpdated);
 
         API.instance().addPatternRenderHandler(pattern -> Screen.hasShiftDown());
 
@@ -273,6 +280,16 @@ public class ClientSetup {
         event.addListener(new ResourcePackListener());
     }
 
+    public void onRecipesUpdated(RecipesUpdatedEvent e) {
+        CraftingPatternFactory.INSTANCE.invalidateRecipeCache(true);
+        PatternItem.invalidateCache();
+    }
+
+    public void onTagsUpdated(TagsUpdatedEvent.VanillaTagTypes e) {
+        CraftingPatternFactory.INSTANCE.invalidateRecipeCache(true);
+        PatternItem.invalidateCache();
+    }
+
     @SubscribeEvent
     public void onModelRegistry(ModelRegistryEvent e) {
         ModelLoader.addSpecialModel(DISK_RESOURCE);
@@ -297,6 +314,8 @@ public class ClientSetup {
     @SubscribeEvent
     public void onModelBake(ModelBakeEvent e) {
         FullbrightBakedModel.invalidateCache();
+        DiskDriveBakedModel.invalidateCache();
+        DiskManipulatorBakedModel.invalidateCache();
 
         for (ResourceLocation id : e.getModelRegistry().keySet()) {
             BakedModelOverrideRegistry.BakedModelOverrideFactory factory = this.bakedModelOverrideRegistry.get(new ResourceLocation(id.getNamespace(), id.getPath()));
@@ -1,14 +1,20 @@
 package com.refinedmods.refinedstorage.setup;
 
 import com.refinedmods.refinedstorage.RS;
+import com.refinedmods.refinedstorage.apiimpl.autocrafting.CraftingRecipeCacheReloadListener;
+import com.refinedmods.refinedstorage.apiimpl.network.security.SecurityManager;
+import com.refinedmods.refinedstorage.apiimpl.util.RSWorldSavedData;
 import com.refinedmods.refinedstorage.command.disk.CreateDiskCommand;
 import com.refinedmods.refinedstorage.command.disk.ListDiskCommand;
 import com.refinedmods.refinedstorage.command.network.GetNetworkCommand;
 import com.refinedmods.refinedstorage.command.network.ListNetworkCommand;
 import com.refinedmods.refinedstorage.command.pattern.PatternDumpCommand;
 import net.minecraft.command.Commands;
+import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.event.CommandEvent;
 import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
 
 public class ServerSetup {
     @SubscribeEvent
@@ -23,4 +29,27 @@ public class ServerSetup {
                 .then(GetNetworkCommand.register())
                 .then(ListNetworkCommand.register())));
     }
+
+    @SubscribeEvent
+    public void onAddReloadListener(AddReloadListenerEvent e) {
+        e.addListener(new CraftingRecipeCacheReloadListener());
+    }
+
+    @SubscribeEvent
+    public void onCommand(CommandEvent e) {
+        // Security managers cache whether a player is an operator.
+        if (!e.getParseResults().getContext().getNodes().isEmpty()) {
+            String command = e.getParseResults().getContext().getNodes().get(0).getNode().getName();
+
+            if ("op".equals(command) || "deop".equals(command)) {
+                SecurityManager.invalidateOps();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onServerStopped(FMLServerStoppedEvent e) {
+        RSWorldSavedData.waitForPendingSaves();
+        SecurityManager.invalidateOps();
+    }
 }
@@ -12,6 +12,7 @@ import com.refinedmods.refinedstorage.util.WorldUtils;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.IntNBT;
 import net.minecraft.nbt.ListNBT;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -28,7 +29,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Arrays;
 
-public class DiskDriveTile extends NetworkNodeTile<DiskDriveNetworkNode> {
+public class DiskDriveTile extends NetworkNodeTile<DiskDriveNetworkNode> implements IVisualUpdateTile {
     public static final TileDataParameter<Integer, DiskDriveTile> PRIORITY = IPrioritizable.createParameter();
     public static final TileDataParameter<Integer, DiskDriveTile> COMPARE = IComparable.createParameter();
     public static final TileDataParameter<Integer, DiskDriveTile> WHITELIST_BLACKLIST = IWhitelistBlacklist.createParameter();
@@ -129,6 +130,24 @@ public class DiskDriveTile extends NetworkNodeTile<DiskDriveNetworkNode> {
         WorldUtils.updateBlock(world, pos);
     }
 
+    @Override
+    public void writeVisualUpdate(PacketBuffer buf) {
+        for (DiskState state : getNode().getDiskState()) {
+            buf.writeByte(state.ordinal());
+        }
+    }
+
+    @Override
+    public void readVisualUpdate(PacketBuffer buf) {
+        for (int i = 0; i < diskState.length; ++i) {
+            diskState[i] = DiskState.values()[buf.readByte()];
+        }
+
+        requestModelDataUpdate();
+
+        WorldUtils.updateBlock(world, pos);
+    }
+
     @Nonnull
     @Override
     public IModelData getModelData() {
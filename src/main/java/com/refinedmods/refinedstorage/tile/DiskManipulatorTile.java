@@ -11,6 +11,7 @@ import com.refinedmods.refinedstorage.util.WorldUtils;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.IntNBT;
 import net.minecraft.nbt.ListNBT;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.datasync.DataSerializers;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
@@ -28,7 +29,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Arrays;
 
-public class DiskManipulatorTile extends NetworkNodeTile<DiskManipulatorNetworkNode> {
+public class DiskManipulatorTile extends NetworkNodeTile<DiskManipulatorNetworkNode> implements IVisualUpdateTile {
     public static final TileDataParameter<Integer, DiskManipulatorTile> COMPARE = IComparable.createParameter();
     public static final TileDataParameter<Integer, DiskManipulatorTile> WHITELIST_BLACKLIST = IWhitelistBlacklist.createParameter();
     public static final TileDataParameter<Integer, DiskManipulatorTile> TYPE = IType.createParameter();
@@ -86,6 +87,24 @@ public class DiskManipulatorTile extends NetworkNodeTile<DiskManipulatorNetworkN
         WorldUtils.updateBlock(world, pos);
     }
 
+    @Override
+    public void writeVisualUpdate(PacketBuffer buf) {
+        for (DiskState state : getNode().getDiskState()) {
+            buf.writeByte(state.ordinal());
+        }
+    }
+
+    @Override
+    public void readVisualUpdate(PacketBuffer buf) {
+        for (int i = 0; i < diskState.length; ++i) {
+            diskState[i] = DiskState.values()[buf.readByte()];
+        }
+
+        requestModelDataUpdate();
+
+        WorldUtils.updateBlock(world, pos);
+    }
+
     @Nonnull
     @Override
     public IModelData getModelData() {
@@ -0,0 +1,24 @@
+package com.refinedmods.refinedstorage.tile;
+
+import net.minecraft.network.PacketBuffer;
+
+/**
+ * A tile whose visual state, like the amount on a Storage Monitor or the disk LEDs, can be synced without a full block update.
+ *
+ * @see com.refinedmods.refinedstorage.apiimpl.network.node.VisualUpdateBatcher
+ */
+public interface IVisualUpdateTile {
+    /**
+     * Writes the visual state on the server.
+     *
+     * @param buf the buffer
+     */
+    void writeVisualUpdate(PacketBuffer buf);
+
+    /**
+     * Reads the visual state on the client.
+     *
+     * @param buf the buffer
+     */
+    void readVisualUpdate(PacketBuffer buf);
+}
@@ -7,13 +7,14 @@ import com.refinedmods.refinedstorage.tile.config.IType;
 import com.refinedmods.refinedstorage.tile.data.TileDataParameter;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.fluids.FluidStack;
 
 import javax.annotation.Nullable;
 
-public class StorageMonitorTile extends NetworkNodeTile<StorageMonitorNetworkNode> {
+public class StorageMonitorTile extends NetworkNodeTile<StorageMonitorNetworkNode> implements IVisualUpdateTile {
     public static final TileDataParameter<Integer, StorageMonitorTile> COMPARE = IComparable.createParameter();
     public static final TileDataParameter<Integer, StorageMonitorTile> TYPE = IType.createParameter();
 
@@ -71,6 +72,16 @@ public class StorageMonitorTile extends NetworkNodeTile<StorageMonitorNetworkNod
         amount = tag.getInt(NBT_AMOUNT);
     }
 
+    @Override
+    public void writeVisualUpdate(PacketBuffer buf) {
+        buf.writeInt(getNode().getAmount());
+    }
+
+    @Override
+    public void readVisualUpdate(PacketBuffer buf) {
+        amount = buf.readInt();
+    }
+
     public int getAmount() {
         return amount;
     }
@@ -21,6 +21,10 @@ public class TileDataManager {
 
     private final List<TileDataWatcher> watchers = new CopyOnWriteArrayList<>();
 
+    // The values produced in the current tick, shared by all watchers.
+    private final Map<TileDataParameter, Object> values = new HashMap<>();
+    private long valuesTime = -1;
+
     public TileDataManager(TileEntity tile) {
         this.tile = tile;
     }
@@ -55,8 +59,38 @@ public class TileDataManager {
         watchers.remove(listener);
     }
 
+    /**
+     * Marks a parameter as changed. Every watcher sends it once on its next update, no matter how often it was marked.
+     *
+     * @param parameter the parameter
+     */
     public void sendParameterToWatchers(TileDataParameter parameter) {
-        watchers.forEach(l -> l.sendParameter(false, parameter));
+        values.remove(parameter);
+
+        watchers.forEach(l -> l.markDirty(parameter));
+    }
+
+    /**
+     * Returns the value of a parameter, which is only produced once per tick.
+     *
+     * @param parameter the parameter
+     * @return the value
+     */
+    public Object getValue(TileDataParameter parameter) {
+        long time = tile.getWorld() != null ? tile.getWorld().getGameTime() : -1;
+
+        if (time != valuesTime) {
+            values.clear();
+            valuesTime = time;
+        }
+
+        if (values.containsKey(parameter)) {
+            return values.get(parameter);
+        }
+
+        Object value = parameter.getValueProducer().apply(tile);
+        values.put(parameter, value);
+        return value;
     }
 
     public static void registerParameter(TileDataParameter parameter) {
@@ -4,12 +4,16 @@ import com.refinedmods.refinedstorage.RS;
 import com.refinedmods.refinedstorage.network.tiledata.TileDataParameterMessage;
 import net.minecraft.entity.player.ServerPlayerEntity;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 public class TileDataWatcher {
     private boolean sentInitial;
     private final ServerPlayerEntity player;
     private final TileDataManager manager;
 
     private Object[] cache;
+    private final Set<TileDataParameter> dirtyParameters = new LinkedHashSet<>();
 
     public TileDataWatcher(ServerPlayerEntity player, TileDataManager manager) {
         this.player = player;
@@ -29,16 +33,27 @@ public class TileDataWatcher {
         this.manager.removeWatcher(this);
     }
 
+    void markDirty(TileDataParameter parameter) {
+        dirtyParameters.add(parameter);
+    }
+
     public void detectAndSendChanges() {
         if (!sentInitial) {
             manager.getParameters().forEach(p -> sendParameter(true, p));
 
+            dirtyParameters.clear();
             sentInitial = true;
         } else {
+            for (TileDataParameter parameter : dirtyParameters) {
+                sendParameter(false, parameter);
+            }
+
+            dirtyParameters.clear();
+
             for (int i = 0; i < manager.getWatchedParameters().size(); ++i) {
                 TileDataParameter parameter = manager.getWatchedParameters().get(i);
 
-                Object real = parameter.getValueProducer().apply(manager.getTile());
+                Object real = manager.getValue(parameter);
                 Object cached = cache[i];
 
                 if (!real.equals(cached)) {
@@ -54,6 +69,6 @@ public class TileDataWatcher {
     }
 
     public void sendParameter(boolean initial, TileDataParameter parameter) {
-        RS.NETWORK_HANDLER.sendTo(player, new TileDataParameterMessage(manager.getTile(), parameter, initial));
+        RS.NETWORK_HANDLER.sendTo(player, new TileDataParameterMessage(parameter, manager.getValue(parameter), initial));
     }
 }
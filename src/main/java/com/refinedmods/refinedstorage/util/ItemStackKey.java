@@ -3,11 +3,26 @@ package com.refinedmods.refinedstorage.util;
 import com.refinedmods.refinedstorage.apiimpl.API;
 import net.minecraft.item.ItemStack;
 
+/**
+ * A key for a stack, ignoring its count.
+ * The stack of a key must not be modified while the key is in use.
+ * Keys that are only used to look something up wrap the stack as is, keys that are stored should be created with {@link #copyOf(ItemStack)}.
+ */
 public final class ItemStackKey {
     private final ItemStack stack;
+    private final int hashCode;
 
     public ItemStackKey(ItemStack stack) {
         this.stack = stack;
+        this.hashCode = API.instance().getItemStackHashCode(stack);
+    }
+
+    /**
+     * @param stack the stack
+     * @return a key with its own copy of the stack, with an interned tag
+     */
+    public static ItemStackKey copyOf(ItemStack stack) {
+        return new ItemStackKey(NbtInterner.intern(stack.copy()));
     }
 
     public ItemStack getStack() {
@@ -16,11 +31,17 @@ public final class ItemStackKey {
 
     @Override
     public boolean equals(Object other) {
-        return other instanceof ItemStackKey && API.instance().getComparer().isEqualNoQuantity(stack, ((ItemStackKey) other).stack);
+        if (this == other) {
+            return true;
+        }
+
+        return other instanceof ItemStackKey &&
+            hashCode == ((ItemStackKey) other).hashCode &&
+            API.instance().getComparer().isEqualNoQuantity(stack, ((ItemStackKey) other).stack);
     }
 
     @Override
     public int hashCode() {
-        return API.instance().getItemStackHashCode(stack);
+        return hashCode;
     }
 }
@@ -0,0 +1,33 @@
+package com.refinedmods.refinedstorage.util;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+
+/**
+ * Shares a single instance of equal NBT tags between the stacks that the storage structures keep,
+ * which saves memory and makes comparing the tags of those stacks an identity check.
+ * An interned tag is shared, it must never be modified.
+ */
+public final class NbtInterner {
+    private static final Interner<CompoundNBT> TAGS = Interners.newWeakInterner();
+
+    private NbtInterner() {
+    }
+
+    /**
+     * Replaces the tag of the given stack with the interned one.
+     * Only use this on stacks that are owned by the caller and never have their tag modified.
+     *
+     * @param stack the stack
+     * @return the given stack
+     */
+    public static ItemStack intern(ItemStack stack) {
+        if (stack.hasTag()) {
+            stack.setTag(TAGS.intern(stack.getTag()));
+        }
+
+        return stack;
+    }
+}
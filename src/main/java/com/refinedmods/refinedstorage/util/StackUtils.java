@@ -8,12 +8,17 @@ import com.refinedmods.refinedstorage.apiimpl.API;
 import com.refinedmods.refinedstorage.inventory.item.BaseItemHandler;
 import com.refinedmods.refinedstorage.screen.grid.stack.FluidGridStack;
 import com.refinedmods.refinedstorage.screen.grid.stack.ItemGridStack;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.NBTSizeTracker;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.server.ServerWorld;
@@ -33,7 +38,8 @@ import org.apache.logging.log4j.Logger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.UUID;
+import java.io.IOException;
+import java.util.*;
 import java.util.function.Function;
 
 public final class StackUtils {
@@ -355,4 +361,136 @@ public final class StackUtils {
 
         return stack;
     }
+
+    private static final int COMPACT_FORMAT_VERSION = 1;
+
+    /**
+     * Writes stacks in a compact binary format: a dictionary of item IDs and a pool of deduplicated NBT tags, followed by the stacks referring to them.
+     *
+     * @param stacks the stacks
+     * @return the bytes
+     */
+    public static byte[] serializeStacksToBytes(Collection<ItemStack> stacks) {
+        Map<Item, Integer> items = new LinkedHashMap<>();
+        Map<CompoundNBT, Integer> tags = new LinkedHashMap<>();
+
+        PacketBuffer entries = new PacketBuffer(Unpooled.buffer());
+        entries.writeVarInt(stacks.size());
+
+        for (ItemStack stack : stacks) {
+            CompoundNBT caps = getCaps(stack);
+
+            entries.writeVarInt(items.computeIfAbsent(stack.getItem(), item -> items.size()));
+            entries.writeVarInt(stack.getCount());
+            entries.writeVarInt(stack.hasTag() ? tags.computeIfAbsent(stack.getTag(), tag -> tags.size()) + 1 : 0);
+            entries.writeVarInt(caps != null ? tags.computeIfAbsent(caps, tag -> tags.size()) + 1 : 0);
+        }
+
+        PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+        buf.writeVarInt(COMPACT_FORMAT_VERSION);
+
+        buf.writeVarInt(items.size());
+        for (Item item : items.keySet()) {
+            buf.writeString(item.getRegistryName().toString());
+        }
+
+        buf.writeVarInt(tags.size());
+        try (ByteBufOutputStream output = new ByteBufOutputStream(buf)) {
+            for (CompoundNBT tag : tags.keySet()) {
+                CompressedStreamTools.write(tag, output);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot serialize stacks", e);
+        }
+
+        buf.writeBytes(entries);
+
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        return bytes;
+    }
+
+    @Nullable
+    private static CompoundNBT getCaps(ItemStack stack) {
+        // Comparing with the empty stack tells whether the stack has capabilities that are saved, without serializing them.
+        // Only the stacks that have them are written, which also copies their tag.
+        if (stack.areCapsCompatible(ItemStack.EMPTY)) {
+            return null;
+        }
+
+        CompoundNBT dummy = new CompoundNBT();
+        // @Volatile
+        stack.write(dummy);
+
+        return dummy.contains(NBT_FORGE_CAPS) ? dummy.getCompound(NBT_FORGE_CAPS) : null;
+    }
+
+    /**
+     * Reads stacks written by {@link #serializeStacksToBytes(Collection)}.
+     * Stacks of items that no longer exist are skipped.
+     *
+     * @param bytes the bytes
+     * @return the stacks
+     */
+    public static List<ItemStack> deserializeStacksFromBytes(byte[] bytes) {
+        PacketBuffer buf = new PacketBuffer(Unpooled.wrappedBuffer(bytes));
+
+        int version = buf.readVarInt();
+        if (version != COMPACT_FORMAT_VERSION) {
+            throw new IllegalStateException("Cannot deserialize stacks: unknown format version " + version);
+        }
+
+        Item[] items = new Item[buf.readVarInt()];
+        for (int i = 0; i < items.length; ++i) {
+            String id = buf.readString(32767);
+
+            items[i] = ForgeRegistries.ITEMS.getValue(new ResourceLocation(id));
+
+            if (items[i] == null) {
+                LOGGER.warn("Could not deserialize item from string ID {}, it no longer exists", id);
+            }
+        }
+
+        CompoundNBT[] tags = new CompoundNBT[buf.readVarInt()];
+        // A tag is only copied once it is used by more than one stack.
+        boolean[] tagsUsed = new boolean[tags.length];
+        try (ByteBufInputStream input = new ByteBufInputStream(buf)) {
+            for (int i = 0; i < tags.length; ++i) {
+                tags[i] = CompressedStreamTools.read(input, NBTSizeTracker.INFINITE);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot deserialize stacks", e);
+        }
+
+        int size = buf.readVarInt();
+        List<ItemStack> stacks = new ArrayList<>(size);
+
+        for (int i = 0; i < size; ++i) {
+            Item item = items[buf.readVarInt()];
+            int count = buf.readVarInt();
+            int tag = buf.readVarInt() - 1;
+            int caps = buf.readVarInt() - 1;
+
+            if (item == null) {
+                continue;
+            }
+
+            ItemStack stack = new ItemStack(item, count, caps == -1 ? null : takeTag(tags, tagsUsed, caps));
+            stack.setTag(tag == -1 ? null : takeTag(tags, tagsUsed, tag));
+
+            stacks.add(stack);
+        }
+
+        return stacks;
+    }
+
+    private static CompoundNBT takeTag(CompoundNBT[] tags, boolean[] tagsUsed, int index) {
+        if (tagsUsed[index]) {
+            return tags[index].copy();
+        }
+
+        tagsUsed[index] = true;
+
+        return tags[index];
+    }
 }
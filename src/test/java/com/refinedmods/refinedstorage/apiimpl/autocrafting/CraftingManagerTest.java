@@ -0,0 +1,82 @@
+package com.refinedmods.refinedstorage.apiimpl.autocrafting;
+
+import com.refinedmods.refinedstorage.api.util.StackListResult;
+import com.refinedmods.refinedstorage.apiimpl.util.ItemStackList;
+import com.refinedmods.refinedstorage.apiimpl.util.MinecraftTest;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CraftingManagerTest extends MinecraftTest {
+    // The outputs of two patterns that make the same item.
+    private final ItemStack outputOfPatternA = new ItemStack(Items.STONE, 1);
+    private final ItemStack outputOfPatternB = new ItemStack(Items.STONE, 4);
+
+    private final ItemStackList craftables = new ItemStackList();
+
+    @Test
+    void Test_adding_two_patterns_with_the_same_output_sends_both_changes() {
+        // Act
+        List<StackListResult<ItemStack>> deltas = CraftingManager.applyCraftables(craftables, Collections.singletonList(outputOfPatternA), Collections.emptyList());
+        deltas.addAll(CraftingManager.applyCraftables(craftables, Collections.singletonList(outputOfPatternB), Collections.emptyList()));
+
+        // Assert
+        assertThat(deltas).hasSize(2);
+        assertThat(sumOf(deltas)).isEqualTo(5);
+        assertThat(craftables.getCount(new ItemStack(Items.STONE))).isEqualTo(5);
+    }
+
+    @Test
+    void Test_removing_two_patterns_with_the_same_output_one_by_one_sends_both_changes() {
+        // Arrange
+        List<StackListResult<ItemStack>> deltas = CraftingManager.applyCraftables(craftables, Arrays.asList(outputOfPatternA, outputOfPatternB), Collections.emptyList());
+
+        // Act
+        deltas.addAll(CraftingManager.applyCraftables(craftables, Collections.emptyList(), Collections.singletonList(outputOfPatternB)));
+        deltas.addAll(CraftingManager.applyCraftables(craftables, Collections.emptyList(), Collections.singletonList(outputOfPatternA)));
+
+        // Assert
+        assertThat(deltas).hasSize(4);
+        assertThat(deltas.get(2).getChange()).isEqualTo(-4);
+        assertThat(deltas.get(3).getChange()).isEqualTo(-1);
+        assertThat(sumOf(deltas)).isZero();
+        assertThat(craftables.isEmpty()).isTrue();
+    }
+
+    @Test
+    void Test_removing_two_patterns_with_the_same_output_at_once_sends_both_changes() {
+        // Arrange
+        List<StackListResult<ItemStack>> deltas = CraftingManager.applyCraftables(craftables, Arrays.asList(outputOfPatternA, outputOfPatternB), Collections.emptyList());
+
+        // Act
+        deltas.addAll(CraftingManager.applyCraftables(craftables, Collections.emptyList(), Arrays.asList(outputOfPatternB, outputOfPatternA)));
+
+        // Assert
+        assertThat(deltas).hasSize(4);
+        assertThat(sumOf(deltas)).isZero();
+        assertThat(craftables.isEmpty()).isTrue();
+    }
+
+    @Test
+    void Test_moving_a_pattern_keeps_the_craftable() {
+        // Arrange
+        List<StackListResult<ItemStack>> deltas = CraftingManager.applyCraftables(craftables, Arrays.asList(outputOfPatternA, outputOfPatternB), Collections.emptyList());
+
+        // Act
+        deltas.addAll(CraftingManager.applyCraftables(craftables, Collections.singletonList(outputOfPatternB), Collections.singletonList(outputOfPatternB)));
+
+        // Assert
+        assertThat(sumOf(deltas)).isEqualTo(5);
+        assertThat(craftables.getCount(new ItemStack(Items.STONE))).isEqualTo(5);
+    }
+
+    private static int sumOf(List<StackListResult<ItemStack>> deltas) {
+        return deltas.stream().mapToInt(StackListResult::getChange).sum();
+    }
+}
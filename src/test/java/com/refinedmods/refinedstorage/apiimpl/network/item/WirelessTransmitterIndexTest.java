@@ -0,0 +1,55 @@
+package com.refinedmods.refinedstorage.apiimpl.network.item;
+
+import com.refinedmods.refinedstorage.apiimpl.util.MinecraftTest;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WirelessTransmitterIndexTest extends MinecraftTest {
+    @Test
+    void Test_a_transmitter_with_a_small_range_covers_the_chunks_around_it() {
+        // Act
+        long[] chunks = WirelessTransmitterIndex.getCoveredChunks(new BlockPos(8, 64, 8), 16);
+
+        // Assert
+        assertThat(chunks).hasSize(9).contains(
+            ChunkPos.asLong(-1, -1),
+            ChunkPos.asLong(0, 0),
+            ChunkPos.asLong(1, 1)
+        );
+    }
+
+    @Test
+    void Test_a_transmitter_at_negative_coordinates_covers_the_chunks_around_it() {
+        // Act
+        long[] chunks = WirelessTransmitterIndex.getCoveredChunks(new BlockPos(-20, 64, -20), 10);
+
+        // Assert
+        assertThat(chunks).containsExactlyInAnyOrder(
+            ChunkPos.asLong(-2, -2),
+            ChunkPos.asLong(-2, -1),
+            ChunkPos.asLong(-1, -2),
+            ChunkPos.asLong(-1, -1)
+        );
+    }
+
+    @Test
+    void Test_a_transmitter_with_a_huge_range_is_not_indexed_per_chunk() {
+        // Act
+        long[] chunks = WirelessTransmitterIndex.getCoveredChunks(new BlockPos(100, 64, 100), Integer.MAX_VALUE);
+
+        // Assert
+        assertThat(chunks).isNull();
+    }
+
+    @Test
+    void Test_a_transmitter_with_a_huge_range_at_negative_coordinates_is_not_indexed_per_chunk() {
+        // Act
+        long[] chunks = WirelessTransmitterIndex.getCoveredChunks(new BlockPos(-30000000, 64, -30000000), Integer.MAX_VALUE);
+
+        // Assert
+        assertThat(chunks).isNull();
+    }
+}
@@ -192,4 +192,53 @@ class ItemStackListTest extends MinecraftTest {
 
         assertThat(list.isEmpty()).isTrue();
     }
+
+    @Test
+    void Test_adding_stacks_with_equal_tags_to_different_lists_shares_the_tag() {
+        // Arrange
+        ItemStackList otherList = new ItemStackList();
+
+        CompoundNBT tag1 = new CompoundNBT();
+        tag1.putInt("a", 1);
+        CompoundNBT tag2 = new CompoundNBT();
+        tag2.putInt("a", 1);
+
+        ItemStack toAdd1 = new ItemStack(Items.DIRT);
+        toAdd1.setTag(tag1);
+        ItemStack toAdd2 = new ItemStack(Items.DIRT);
+        toAdd2.setTag(tag2);
+
+        // Act
+        StackListResult<ItemStack> result1 = list.add(toAdd1, 10);
+        StackListResult<ItemStack> result2 = otherList.add(toAdd2, 10);
+
+        // Assert
+        assertThat(result1.getStack().getTag()).isSameAs(result2.getStack().getTag());
+    }
+
+    @Test
+    void Test_modifying_the_tag_of_a_copy_of_a_stack_leaves_the_shared_tag_untouched() {
+        // Arrange
+        ItemStackList otherList = new ItemStackList();
+
+        CompoundNBT tag = new CompoundNBT();
+        tag.putInt("a", 1);
+
+        ItemStack toAdd = new ItemStack(Items.DIRT);
+        toAdd.setTag(tag);
+
+        ItemStack stack = list.add(toAdd, 10).getStack();
+        ItemStack otherStack = otherList.add(toAdd, 10).getStack();
+
+        // Act
+        ItemStack copy = stack.copy();
+        copy.getTag().putInt("a", 2);
+
+        // Assert
+        assertThat(copy.getTag()).isNotSameAs(stack.getTag());
+        assertThat(stack.getTag().getInt("a")).isEqualTo(1);
+        assertThat(otherStack.getTag().getInt("a")).isEqualTo(1);
+        assertThat(list.get(toAdd)).isNotNull();
+        assertThat(otherList.get(toAdd)).isNotNull();
+    }
 }
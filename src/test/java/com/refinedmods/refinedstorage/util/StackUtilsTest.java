@@ -0,0 +1,112 @@
+package com.refinedmods.refinedstorage.util;
+
+import com.refinedmods.refinedstorage.apiimpl.util.MinecraftTest;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.CompoundNBT;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StackUtilsTest extends MinecraftTest {
+    @Test
+    void Test_serializing_an_empty_list_of_stacks_to_bytes() {
+        // Act
+        List<ItemStack> result = StackUtils.deserializeStacksFromBytes(StackUtils.serializeStacksToBytes(Collections.emptyList()));
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void Test_serializing_stacks_with_and_without_tag_to_bytes() {
+        // Arrange
+        CompoundNBT tag = new CompoundNBT();
+        tag.putInt("a", 1);
+        tag.putString("b", "test");
+
+        ItemStack withTag = new ItemStack(Items.DIRT, 10);
+        withTag.setTag(tag);
+        ItemStack withoutTag = new ItemStack(Items.GLASS, 20);
+
+        // Act
+        List<ItemStack> result = StackUtils.deserializeStacksFromBytes(StackUtils.serializeStacksToBytes(Arrays.asList(withTag, withoutTag)));
+
+        // Assert
+        assertThat(result).hasSize(2);
+
+        assertThat(result.get(0).getItem()).isEqualTo(Items.DIRT);
+        assertThat(result.get(0).getCount()).isEqualTo(10);
+        assertThat(result.get(0).getTag()).isEqualTo(tag);
+
+        assertThat(result.get(1).getItem()).isEqualTo(Items.GLASS);
+        assertThat(result.get(1).getCount()).isEqualTo(20);
+        assertThat(result.get(1).getTag()).isNull();
+    }
+
+    @Test
+    void Test_serializing_stacks_with_counts_above_the_max_stack_size_to_bytes() {
+        // Arrange
+        List<ItemStack> stacks = new ArrayList<>();
+        stacks.add(new ItemStack(Items.DIRT, 65));
+        stacks.add(new ItemStack(Items.GLASS, 1000));
+        stacks.add(new ItemStack(Items.STONE, Integer.MAX_VALUE));
+
+        // Act
+        List<ItemStack> result = StackUtils.deserializeStacksFromBytes(StackUtils.serializeStacksToBytes(stacks));
+
+        // Assert
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).getCount()).isEqualTo(65);
+        assertThat(result.get(1).getCount()).isEqualTo(1000);
+        assertThat(result.get(2).getCount()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void Test_serializing_stacks_with_a_shared_tag_to_bytes() {
+        // Arrange
+        CompoundNBT tag = new CompoundNBT();
+        tag.putInt("a", 1);
+
+        ItemStack stack1 = new ItemStack(Items.DIRT, 10);
+        stack1.setTag(tag);
+        ItemStack stack2 = new ItemStack(Items.GLASS, 20);
+        stack2.setTag(tag.copy());
+
+        // Act
+        List<ItemStack> result = StackUtils.deserializeStacksFromBytes(StackUtils.serializeStacksToBytes(Arrays.asList(stack1, stack2)));
+
+        // Assert
+        assertThat(result).hasSize(2);
+
+        assertThat(result.get(0).getTag()).isEqualTo(tag);
+        assertThat(result.get(1).getTag()).isEqualTo(tag);
+
+        // Every stack gets its own tag, as tags are mutable.
+        assertThat(result.get(0).getTag()).isNotSameAs(result.get(1).getTag());
+    }
+
+    @Test
+    void Test_serializing_stacks_with_a_shared_tag_writes_the_tag_once() {
+        // Arrange
+        CompoundNBT tag = new CompoundNBT();
+        tag.putString("a", "a long enough value to notice when it is written more than once");
+
+        ItemStack stack1 = new ItemStack(Items.DIRT, 10);
+        stack1.setTag(tag);
+        ItemStack stack2 = new ItemStack(Items.DIRT, 20);
+        stack2.setTag(tag.copy());
+
+        // Act
+        byte[] once = StackUtils.serializeStacksToBytes(Collections.singletonList(stack1));
+        byte[] twice = StackUtils.serializeStacksToBytes(Arrays.asList(stack1, stack2));
+
+        // Assert
+        assertThat(twice.length - once.length).isLessThan(tag.getString("a").length());
+    }
+}